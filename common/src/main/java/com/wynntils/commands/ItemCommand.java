@@ -0,0 +1,146 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.commands;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.wynntils.core.commands.CommandBase;
+import com.wynntils.core.components.Managers;
+import com.wynntils.mc.utils.ComponentUtils;
+import com.wynntils.wynn.item.GearItemStack;
+import com.wynntils.wynn.model.item.ItemManager;
+import com.wynntils.wynn.model.item.ItemStatIndex;
+import com.wynntils.wynn.model.item.ItemStatQuery;
+import com.wynntils.wynn.objects.profiles.item.ItemProfile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.SharedSuggestionProvider;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+
+public class ItemCommand extends CommandBase {
+    private static final int QUERY_RESULT_SIZE = 10;
+    private static final int STAT_SUGGESTION_COUNT = 5;
+
+    private static final Pattern OPERATOR_PATTERN = Pattern.compile("[:<>=]");
+
+    // Completes the stat name in the last word of the query, which may be a sort order
+    private static final SuggestionProvider<CommandSourceStack> QUERY_SUGGESTION_PROVIDER = (context, builder) -> {
+        String remaining = builder.getRemaining();
+        int wordStart = remaining.lastIndexOf(' ') + 1;
+        String word = remaining.substring(wordStart);
+
+        String prefix = word.startsWith("sort:+") ? "sort:+" : word.startsWith("sort:") ? "sort:" : "";
+        if (OPERATOR_PATTERN.matcher(word.substring(prefix.length())).find()) return builder.buildFuture();
+
+        Stream<String> completions = Managers.Item.getGearStatNames().stream().map(prefix::concat);
+        if (prefix.isEmpty()) {
+            completions = Stream.concat(completions, Stream.of("sort:"));
+        }
+        return SharedSuggestionProvider.suggest(completions, builder.createOffset(builder.getStart() + wordStart));
+    };
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> getBaseCommandBuilder() {
+        return Commands.literal("item")
+                .then(Commands.literal("query")
+                        .then(Commands.argument("query", StringArgumentType.greedyString())
+                                .suggests(QUERY_SUGGESTION_PROVIDER)
+                                .executes(this::queryItems))
+                        .executes(this::queryHelp))
+                .executes(this::syntaxError);
+    }
+
+    private int queryItems(CommandContext<CommandSourceStack> context) {
+        ItemStatQuery query = ItemStatQuery.parse(context.getArgument("query", String.class));
+
+        long startTime = System.nanoTime();
+        ItemManager.GearQueryResult result = Managers.Item.queryGearItems(query);
+        long queryNanos = System.nanoTime() - startTime;
+
+        ItemStatIndex statIndex = result.statIndex();
+
+        List<String> errors = new ArrayList<>(query.getErrors());
+        for (ItemStatQuery.Filter filter : query.getFilters()) {
+            if (!statIndex.hasStat(filter.stat())) {
+                errors.add(getUnknownStatError(filter.stat(), statIndex));
+            }
+        }
+        if (query.getSortStat() != null && !statIndex.hasStat(query.getSortStat())) {
+            errors.add(getUnknownStatError(query.getSortStat(), statIndex));
+        }
+
+        if (!errors.isEmpty()) {
+            context.getSource()
+                    .sendFailure(Component.literal(String.join("\n", errors)).withStyle(ChatFormatting.RED));
+            return 0;
+        }
+
+        List<GearItemStack> items = result.items();
+        MutableComponent response = Component.literal(
+                        String.format("%d matching items (evaluated in %.1f µs)", items.size(), queryNanos / 1e3))
+                .withStyle(ChatFormatting.AQUA);
+
+        for (int i = 0; i < Math.min(items.size(), QUERY_RESULT_SIZE); i++) {
+            GearItemStack item = items.get(i);
+            ItemProfile profile = item.getItemProfile();
+            response.append(Component.literal("\n - ").withStyle(ChatFormatting.GRAY))
+                    .append(Component.literal(ComponentUtils.getUnformatted(item.getHoverName()))
+                            .withStyle(profile.getTier().getChatFormatting()))
+                    .append(Component.literal(" Lv. " + profile.getLevelRequirement())
+                            .withStyle(ChatFormatting.GRAY));
+
+            if (query.getSortStat() == null) continue;
+
+            Integer sortValue = statIndex.getValue(query.getSortStat(), result.rows()[i]);
+            if (sortValue == null) continue;
+
+            response.append(Component.literal(" " + query.getSortStat() + ": " + sortValue)
+                    .withStyle(ChatFormatting.YELLOW));
+        }
+
+        if (items.size() > QUERY_RESULT_SIZE) {
+            response.append(Component.literal("\n... and " + (items.size() - QUERY_RESULT_SIZE) + " more")
+                    .withStyle(ChatFormatting.GRAY));
+        }
+
+        context.getSource().sendSuccess(response, false);
+        return 1;
+    }
+
+    private static String getUnknownStatError(String stat, ItemStatIndex statIndex) {
+        List<String> similar = statIndex.getStatNames().stream()
+                .filter(name -> name.contains(stat) || stat.contains(name))
+                .limit(STAT_SUGGESTION_COUNT)
+                .toList();
+        if (similar.isEmpty()) return "Unknown stat " + stat;
+
+        return "Unknown stat " + stat + ", did you mean " + String.join(", ", similar) + "?";
+    }
+
+    private int queryHelp(CommandContext<CommandSourceStack> context) {
+        context.getSource()
+                .sendSuccess(
+                        Component.literal("Usage: /wynntils item query <query>\n"
+                                        + "Filter with level:80-100, spellDamage>=20 or tier>=legendary, sort with "
+                                        + "sort:walkSpeed, or sort:+walkSpeed for the lowest first. Other words "
+                                        + "search the item names.")
+                                .withStyle(ChatFormatting.AQUA),
+                        false);
+        return 1;
+    }
+
+    private int syntaxError(CommandContext<CommandSourceStack> context) {
+        context.getSource().sendFailure(Component.literal("Missing argument").withStyle(ChatFormatting.RED));
+        return 0;
+    }
+}
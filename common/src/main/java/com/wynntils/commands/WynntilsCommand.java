@@ -11,9 +11,13 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.commands.CommandBase;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Models;
+import com.wynntils.core.events.EventProfiler;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.gui.render.FontRenderer;
 import com.wynntils.utils.Delay;
 import com.wynntils.utils.FileUtils;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
 import java.util.List;
 import java.util.Set;
 import net.minecraft.ChatFormatting;
@@ -26,6 +30,8 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
 
 public class WynntilsCommand extends CommandBase {
+    private static final int PROFILE_REPORT_SIZE = 10;
+
     @Override
     public void register(CommandDispatcher<CommandSourceStack> dispatcher) {
         throw new UnsupportedOperationException("WynntilsCommand need special treatment");
@@ -55,6 +61,13 @@ public class WynntilsCommand extends CommandBase {
                         .then(Commands.literal("run").executes(this::doClearCaches))
                         .executes(this::clearCaches))
                 .then(Commands.literal("reloadcaches").executes(this::reloadCaches))
+                .then(Commands.literal("profile")
+                        .then(Commands.literal("start").executes(this::profileStart))
+                        .then(Commands.literal("stop").executes(this::profileStop))
+                        .then(Commands.literal("reset").executes(this::profileReset))
+                        .then(Commands.literal("caches").executes(this::profileCaches))
+                        .then(Commands.literal("tasks").executes(this::profileTasks))
+                        .executes(this::profileReport))
                 .then(Commands.literal("version").executes(this::version))
                 .executes(this::help);
     }
@@ -125,6 +138,124 @@ public class WynntilsCommand extends CommandBase {
         return 1;
     }
 
+    private int profileStart(CommandContext<CommandSourceStack> context) {
+        EventProfiler.start();
+        context.getSource()
+                .sendSuccess(
+                        Component.literal("Event profiler started. Use /wynntils profile to see the results.")
+                                .withStyle(ChatFormatting.GREEN),
+                        false);
+        return 1;
+    }
+
+    private int profileStop(CommandContext<CommandSourceStack> context) {
+        EventProfiler.stop();
+        context.getSource()
+                .sendSuccess(Component.literal("Event profiler stopped.").withStyle(ChatFormatting.YELLOW), false);
+        return 1;
+    }
+
+    private int profileReset(CommandContext<CommandSourceStack> context) {
+        EventProfiler.reset();
+        context.getSource()
+                .sendSuccess(
+                        Component.literal("Event profiler results reset.").withStyle(ChatFormatting.YELLOW), false);
+        return 1;
+    }
+
+    private int profileReport(CommandContext<CommandSourceStack> context) {
+        List<EventProfiler.ListenerStats> listenerStats = EventProfiler.getListenerStats();
+        if (listenerStats.isEmpty()) {
+            context.getSource()
+                    .sendFailure(Component.literal(
+                                    "No profiling results. Use /wynntils profile start to start the event profiler.")
+                            .withStyle(ChatFormatting.RED));
+            return 1;
+        }
+
+        double seconds = Math.max(1, System.currentTimeMillis() - EventProfiler.getStartTime()) / 1000d;
+        MutableComponent text = Component.literal(String.format("Event profile of the last %.1f s", seconds))
+                .withStyle(ChatFormatting.GOLD);
+
+        text.append(Component.literal("\nMost posted events:").withStyle(ChatFormatting.AQUA));
+        for (EventProfiler.EventStats stats : EventProfiler.getEventStats().stream()
+                .limit(PROFILE_REPORT_SIZE)
+                .toList()) {
+            text.append(Component.literal(String.format(
+                            "\n%s: %d posts, %.2f ms total",
+                            stats.getName(), stats.getPosts(), stats.getTotalNanos() / 1e6))
+                    .withStyle(ChatFormatting.WHITE));
+        }
+
+        text.append(Component.literal("\nSlowest listeners:").withStyle(ChatFormatting.AQUA));
+        for (EventProfiler.ListenerStats stats :
+                listenerStats.stream().limit(PROFILE_REPORT_SIZE).toList()) {
+            text.append(Component.literal(String.format(
+                            "\n%s: %d calls, %.2f ms total, p99 %.1f µs, %d KiB allocated",
+                            stats.getName(),
+                            stats.getInvocations(),
+                            stats.getTotalNanos() / 1e6,
+                            stats.getP99Nanos() / 1e3,
+                            stats.getAllocatedBytes() / 1024))
+                    .withStyle(ChatFormatting.WHITE));
+        }
+
+        appendCacheStats(text);
+
+        context.getSource().sendSuccess(text, false);
+        return 1;
+    }
+
+    private int profileCaches(CommandContext<CommandSourceStack> context) {
+        MutableComponent text = Component.literal("Cache statistics").withStyle(ChatFormatting.GOLD);
+        appendCacheStats(text);
+
+        context.getSource().sendSuccess(text, false);
+        return 1;
+    }
+
+    private int profileTasks(CommandContext<CommandSourceStack> context) {
+        MutableComponent text = Component.literal("Background task lanes").withStyle(ChatFormatting.GOLD);
+
+        for (TaskLane lane : TaskLane.values()) {
+            TaskUtils.LaneStats stats = TaskUtils.getLaneStats(lane);
+            text.append(Component.literal(String.format(
+                            "\n%s: %d tasks, %d queued, %d rejected, avg/max wait %.1f/%.1f ms, run %.1f/%.1f ms",
+                            lane,
+                            stats.getCompleted(),
+                            TaskUtils.getQueuedTasks(lane),
+                            stats.getRejected(),
+                            stats.getAverageWaitNanos() / 1e6,
+                            stats.getMaxWaitNanos() / 1e6,
+                            stats.getAverageRunNanos() / 1e6,
+                            stats.getMaxRunNanos() / 1e6))
+                    .withStyle(ChatFormatting.WHITE));
+        }
+
+        context.getSource().sendSuccess(text, false);
+        return 1;
+    }
+
+    private void appendCacheStats(MutableComponent text) {
+        text.append(Component.literal(String.format(
+                        "\nItem parse cache: %d hits, %d misses (%.1f%% hit rate)",
+                        Managers.ItemStackTransform.getCacheHits(),
+                        Managers.ItemStackTransform.getCacheMisses(),
+                        Managers.ItemStackTransform.getCacheHitRate() * 100))
+                .withStyle(ChatFormatting.AQUA));
+
+        FontRenderer fontRenderer = FontRenderer.getInstance();
+        long layoutHits = fontRenderer.getLayoutCacheHits();
+        long layoutLookups = layoutHits + fontRenderer.getLayoutCacheMisses();
+        text.append(Component.literal(String.format(
+                        "\nText layout cache: %d entries, %d hits, %d misses (%.1f%% hit rate)",
+                        fontRenderer.getLayoutCacheSize(),
+                        layoutHits,
+                        layoutLookups - layoutHits,
+                        layoutLookups == 0 ? 0 : layoutHits * 100d / layoutLookups))
+                .withStyle(ChatFormatting.AQUA));
+    }
+
     private int version(CommandContext<CommandSourceStack> context) {
         MutableComponent buildText;
 
@@ -174,6 +305,21 @@ public class WynntilsCommand extends CommandBase {
         addCommandDescription(
                 text, "wynntils", List.of("clearcaches"), "This clears all Wynntils caches and closes the game.");
         addCommandDescription(text, "wynntils", List.of("reloadcaches"), "This attempts to re-download caches.");
+        addCommandDescription(
+                text,
+                "wynntils",
+                List.of("profile"),
+                "This shows which events and listeners take the most time. Use start, stop and reset to control it.");
+        addCommandDescription(
+                text,
+                "wynntils",
+                List.of("profile", "caches"),
+                "This shows how well the item parse and text layout caches are working.");
+        addCommandDescription(
+                text,
+                "wynntils",
+                List.of("profile", "tasks"),
+                "This shows how long background tasks wait and run, for each task lane.");
         addCommandDescription(text, "wynntils", List.of("donate"), "This provides our Patreon link.");
         addCommandDescription(
                 text,
@@ -13,6 +13,7 @@ import com.wynntils.core.events.EventBusWrapper;
 import com.wynntils.core.features.Feature;
 import com.wynntils.core.features.FeatureRegistry;
 import com.wynntils.core.features.UserFeature;
+import com.wynntils.gui.render.FontRenderer;
 import com.wynntils.mc.event.ClientsideMessageEvent;
 import com.wynntils.mc.utils.McUtils;
 import java.io.File;
@@ -156,6 +157,9 @@ public final class WynntilsMod {
 
     // Ran when resources (including I18n) are available
     public static void onResourcesFinishedLoading() {
+        // Resource packs can change the font, so text measured before the reload has to be measured again
+        FontRenderer.getInstance().clearLayoutCache();
+
         if (FeatureRegistry.isInitCompleted()) return;
 
         try {
@@ -14,6 +14,7 @@ import com.wynntils.commands.CompassCommand;
 import com.wynntils.commands.ConfigCommand;
 import com.wynntils.commands.FeatureCommand;
 import com.wynntils.commands.FunctionCommand;
+import com.wynntils.commands.ItemCommand;
 import com.wynntils.commands.LocateCommand;
 import com.wynntils.commands.LootrunCommand;
 import com.wynntils.commands.QuestCommand;
@@ -171,6 +172,7 @@ public final class ClientCommandManager extends Manager {
         registerCommand(new ConfigCommand());
         registerCommand(new FeatureCommand());
         registerCommand(new FunctionCommand());
+        registerCommand(new ItemCommand());
         registerCommand(new LocateCommand());
         registerCommand(new LootrunCommand());
         registerCommand(new QuestCommand());
@@ -138,6 +138,8 @@ public class ConfigHolder {
             FieldUtils.writeField(field, parent, value, true);
             parent.updateConfigOption(this);
             userEdited = true;
+            // Item stacks read feature configs while being parsed, so parsed items may be outdated now
+            Managers.ItemStackTransform.invalidateCache();
             return true;
         } catch (IllegalAccessException e) {
             WynntilsMod.error("Unable to set field " + getJsonName(), e);
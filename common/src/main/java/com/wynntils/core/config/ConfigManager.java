@@ -20,6 +20,10 @@ import com.wynntils.core.features.overlays.Overlay;
 import com.wynntils.mc.objects.CustomColor;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.utils.FileUtils;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
+import com.wynntils.wynn.event.WorldStateEvent;
+import com.wynntils.wynn.model.WorldStateManager;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -29,12 +33,16 @@ import java.io.OutputStreamWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
@@ -49,9 +57,18 @@ public final class ConfigManager extends Manager {
             .create();
     private static final List<ConfigHolder> CONFIG_HOLDERS = new ArrayList<>();
 
+    // UI interactions can ask for a save many times a second, only write the latest state
+    private static final long SAVE_DELAY_MILLIS = 500;
+
     private File userConfig;
     private JsonObject configObject;
 
+    // The saved config that is not on disk yet, guarded by this
+    private JsonObject pendingConfig = null;
+    private boolean writeScheduled = false;
+
+    private final Object writeLock = new Object();
+
     public ConfigManager(ConfigUpfixerManager upfixer) {
         super(List.of(upfixer));
 
@@ -62,6 +79,15 @@ public final class ConfigManager extends Manager {
         if (upfixer.runUpfixers(configObject)) {
             saveConfigToDisk(configObject);
         }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::writePendingConfig, "wynntils-config-flush"));
+    }
+
+    @SubscribeEvent
+    public void onWorldStateChange(WorldStateEvent event) {
+        if (event.getNewState() == WorldStateManager.State.NOT_CONNECTED) {
+            TaskUtils.runAsync(TaskLane.SERIAL, this::writePendingConfig);
+        }
     }
 
     public void registerFeature(Feature feature) {
@@ -86,6 +112,15 @@ public final class ConfigManager extends Manager {
 
         // set up config file based on uuid, load it if it exists
         userConfig = new File(CONFIGS, McUtils.mc().getUser().getUuid() + FILE_SUFFIX);
+
+        // The file is outdated while a save is still waiting to be written
+        synchronized (this) {
+            if (pendingConfig != null) {
+                configObject = pendingConfig;
+                return;
+            }
+        }
+
         if (!userConfig.exists()) {
             FileUtils.createNewFile(userConfig);
             configObject = new JsonObject();
@@ -147,12 +182,46 @@ public final class ConfigManager extends Manager {
         }
     }
 
+    /**
+     * Saves the current config values. They are written to disk in the background shortly after, so saving often
+     * only costs creating the json, and only the latest save is written.
+     */
     public void saveConfig() {
-        // create file if necessary
-        if (!userConfig.exists()) {
-            FileUtils.createNewFile(userConfig);
+        JsonObject savedConfig = createConfigJson();
+
+        synchronized (this) {
+            pendingConfig = savedConfig;
+            if (writeScheduled) return;
+            writeScheduled = true;
         }
 
+        TaskUtils.runLater(this::writePendingConfig, SAVE_DELAY_MILLIS);
+    }
+
+    private void writePendingConfig() {
+        synchronized (this) {
+            writeScheduled = false;
+        }
+
+        // Only one write at a time, the last one to run always writes the latest save
+        synchronized (writeLock) {
+            JsonObject savedConfig;
+            synchronized (this) {
+                savedConfig = pendingConfig;
+            }
+            if (savedConfig == null) return;
+
+            saveConfigToDisk(savedConfig);
+
+            synchronized (this) {
+                if (pendingConfig == savedConfig) {
+                    pendingConfig = null;
+                }
+            }
+        }
+    }
+
+    private JsonObject createConfigJson() {
         // create json object, with entry for each option of each container
         JsonObject holderJson = new JsonObject();
         for (ConfigHolder holder : CONFIG_HOLDERS) {
@@ -168,17 +237,23 @@ public final class ConfigManager extends Manager {
                 Managers.ConfigUpfixer.UPFIXER_JSON_MEMBER_NAME,
                 configObject.get(Managers.ConfigUpfixer.UPFIXER_JSON_MEMBER_NAME));
 
-        saveConfigToDisk(holderJson);
+        return holderJson;
     }
 
     private void saveConfigToDisk(JsonObject configObject) {
+        // Write to a temporary file first, so a crash while writing never leaves a broken config behind
+        File tempFile = new File(CONFIGS, userConfig.getName() + ".tmp");
         try {
-            // write json to file
-            OutputStreamWriter fileWriter =
-                    new OutputStreamWriter(new FileOutputStream(userConfig), StandardCharsets.UTF_8);
-
-            CONFIG_GSON.toJson(configObject, fileWriter);
-            fileWriter.close();
+            Files.writeString(tempFile.toPath(), CONFIG_GSON.toJson(configObject), StandardCharsets.UTF_8);
+            try {
+                Files.move(
+                        tempFile.toPath(),
+                        userConfig.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), userConfig.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
             WynntilsMod.error("Failed to save user config file!", e);
         }
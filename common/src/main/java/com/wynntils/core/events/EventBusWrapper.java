@@ -5,6 +5,7 @@
 package com.wynntils.core.events;
 
 import com.wynntils.core.WynntilsMod;
+import java.util.Optional;
 import net.minecraftforge.eventbus.BusBuilderImpl;
 import net.minecraftforge.eventbus.EventBus;
 import net.minecraftforge.eventbus.api.BusBuilder;
@@ -12,22 +13,46 @@ import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.IEventBus;
 
 public final class EventBusWrapper extends EventBus {
-    private EventBusWrapper(BusBuilderImpl busBuilder) {
+    private static final ClassValue<Optional<EventThread>> THREAD_ANNOTATIONS = new ClassValue<>() {
+        @Override
+        protected Optional<EventThread> computeValue(Class<?> type) {
+            return Optional.ofNullable(type.getDeclaredAnnotation(EventThread.class));
+        }
+    };
+
+    private final boolean checkThreads;
+
+    private EventBusWrapper(BusBuilderImpl busBuilder, boolean checkThreads) {
         super(busBuilder);
+        this.checkThreads = checkThreads;
     }
 
     public static IEventBus createEventBus() {
-        if (WynntilsMod.isDevelopmentEnvironment()) {
-            return new EventBusWrapper((BusBuilderImpl) BusBuilder.builder());
-        } else {
-            return BusBuilder.builder().build();
-        }
+        // The wrapper is always used, so that the event profiler can be turned on in production as well
+        return new EventBusWrapper((BusBuilderImpl) BusBuilder.builder(), WynntilsMod.isDevelopmentEnvironment());
     }
 
     @Override
     public boolean post(Event event) {
+        if (checkThreads) {
+            checkThread(event);
+        }
+
+        if (!EventProfiler.isEnabled()) {
+            return super.post(event);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return super.post(event, EventProfiler::invokeListener);
+        } finally {
+            EventProfiler.recordPost(event.getClass(), System.nanoTime() - start);
+        }
+    }
+
+    private static void checkThread(Event event) {
         Class<? extends Event> eventClass = event.getClass();
-        EventThread threadAnnotation = eventClass.getDeclaredAnnotation(EventThread.class);
+        EventThread threadAnnotation = THREAD_ANNOTATIONS.get(eventClass).orElse(null);
         String threadName = Thread.currentThread().getName();
         if (threadAnnotation == null) {
             // Events without annotation are only allowed on Render thread
@@ -49,7 +74,5 @@ public final class EventBusWrapper extends EventBus {
                         + threadAnnotation.value() + " on thread " + threadName);
             }
         }
-
-        return super.post(event);
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.events;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraftforge.eventbus.api.Event;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.IEventListener;
+
+/**
+ * Opt-in profiler for the mod event bus. While running, it records how often each event class is posted, and how
+ * long each listener takes, and how much it allocates, per invocation.
+ *
+ * <p>When stopped, the event bus skips the profiler entirely, so it costs a single volatile read per post.
+ */
+public final class EventProfiler {
+    // Number of most recent invocations kept per listener for percentiles
+    private static final int SAMPLE_COUNT = 1024;
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+    private static final Map<Class<? extends Event>, EventStats> EVENT_STATS = new ConcurrentHashMap<>();
+    private static final Map<IEventListener, ListenerStats> LISTENER_STATS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+    private static long startTime = 0;
+
+    private EventProfiler() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void start() {
+        if (enabled) return;
+
+        reset();
+        enabled = true;
+    }
+
+    public static void stop() {
+        enabled = false;
+    }
+
+    public static void reset() {
+        EVENT_STATS.clear();
+        LISTENER_STATS.clear();
+        startTime = System.currentTimeMillis();
+    }
+
+    /** Returns when the current results started being collected, in epoch millis */
+    public static long getStartTime() {
+        return startTime;
+    }
+
+    public static boolean isAllocationTrackingSupported() {
+        return ALLOCATION_BEAN != null;
+    }
+
+    /** Returns a snapshot of all event stats, most posted first */
+    public static List<EventStats> getEventStats() {
+        return EVENT_STATS.values().stream()
+                .sorted(Comparator.comparingLong(EventStats::getPosts).reversed())
+                .toList();
+    }
+
+    /** Returns a snapshot of all listener stats, most time consuming first */
+    public static List<ListenerStats> getListenerStats() {
+        return LISTENER_STATS.values().stream()
+                .sorted(Comparator.comparingLong(ListenerStats::getTotalNanos).reversed())
+                .toList();
+    }
+
+    static void recordPost(Class<? extends Event> eventClass, long nanos) {
+        EVENT_STATS.computeIfAbsent(eventClass, EventStats::new).record(nanos);
+    }
+
+    static void invokeListener(IEventListener listener, Event event) {
+        // Priority markers are listeners too, but just switch the phase of the event
+        if (listener instanceof EventPriority) {
+            listener.invoke(event);
+            return;
+        }
+
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        try {
+            listener.invoke(event);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            long allocated = getAllocatedBytes() - allocatedBefore;
+            LISTENER_STATS.computeIfAbsent(listener, ListenerStats::new).record(nanos, allocated);
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        return ALLOCATION_BEAN == null ? 0 : ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException ignored) {
+            // Fall through, allocations will just not be tracked
+        }
+
+        return null;
+    }
+
+    public static final class EventStats {
+        private final Class<? extends Event> eventClass;
+        private long posts;
+        private long totalNanos;
+
+        private EventStats(Class<? extends Event> eventClass) {
+            this.eventClass = eventClass;
+        }
+
+        private synchronized void record(long nanos) {
+            posts++;
+            totalNanos += nanos;
+        }
+
+        public String getName() {
+            return eventClass.getName().substring(eventClass.getPackageName().length() + 1);
+        }
+
+        public synchronized long getPosts() {
+            return posts;
+        }
+
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+    }
+
+    public static final class ListenerStats {
+        private final String name;
+        private final long[] samples = new long[SAMPLE_COUNT];
+        private long invocations;
+        private long totalNanos;
+        private long allocatedBytes;
+
+        private ListenerStats(IEventListener listener) {
+            this.name = listener.toString();
+        }
+
+        private synchronized void record(long nanos, long allocated) {
+            samples[(int) (invocations % SAMPLE_COUNT)] = nanos;
+            invocations++;
+            totalNanos += nanos;
+            allocatedBytes += allocated;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public synchronized long getInvocations() {
+            return invocations;
+        }
+
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public synchronized long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /** Returns the 99th percentile duration of the most recent invocations */
+        public synchronized long getP99Nanos() {
+            int count = (int) Math.min(invocations, SAMPLE_COUNT);
+            if (count == 0) return 0;
+
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)];
+        }
+    }
+}
@@ -139,6 +139,7 @@ public abstract class Feature extends AbstractConfigurable
 
         onEnable();
         state = FeatureState.ENABLED;
+        Managers.ItemStackTransform.invalidateCache();
 
         ModelRegistry.addAllDependencies(this);
 
@@ -167,6 +168,7 @@ public abstract class Feature extends AbstractConfigurable
         onDisable();
 
         state = FeatureState.DISABLED;
+        Managers.ItemStackTransform.invalidateCache();
 
         ModelRegistry.removeAllDependencies(this);
 
@@ -12,6 +12,8 @@ import com.wynntils.core.features.properties.RegisterKeyBind;
 import com.wynntils.core.features.properties.StartDisabled;
 import com.wynntils.core.keybinds.KeyBind;
 import com.wynntils.features.debug.ConnectionProgressFeature;
+import com.wynntils.features.debug.DrawCallCounterFeature;
+import com.wynntils.features.debug.EventProfilerFeature;
 import com.wynntils.features.debug.LogItemInfoFeature;
 import com.wynntils.features.debug.PacketDebuggerFeature;
 import com.wynntils.features.statemanaged.DataStorageFeature;
@@ -114,6 +116,8 @@ public final class FeatureRegistry {
     public static void init() {
         // debug
         registerFeature(new ConnectionProgressFeature());
+        registerFeature(new DrawCallCounterFeature());
+        registerFeature(new EventProfilerFeature());
         registerFeature(new LogItemInfoFeature());
         registerFeature(new PacketDebuggerFeature());
 
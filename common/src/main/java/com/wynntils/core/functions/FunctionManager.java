@@ -16,8 +16,10 @@ import com.wynntils.functions.WorldFunction;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.wynn.objects.EmeraldSymbols;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +36,8 @@ public final class FunctionManager extends Manager {
             Pattern.compile("%([a-zA-Z_]+|%)%|\\\\([\\\\n%§EBLMH]|x[\\dA-Fa-f]{2}|u[\\dA-Fa-f]{4}|U[\\dA-Fa-f]{8})");
 
     private final List<Function<?>> functions = new ArrayList<>();
+    // Lower case names and aliases -> function, the first registered function wins on clashes
+    private final Map<String, Function<?>> functionsByName = new HashMap<>();
     private final Set<ActiveFunction<?>> enabledFunctions = new HashSet<>();
     private final Set<Function<?>> crashedFunctions = new HashSet<>();
 
@@ -89,21 +93,7 @@ public final class FunctionManager extends Manager {
     }
 
     public Optional<Function<?>> forName(String functionName) {
-        for (Function<?> function : getFunctions()) {
-            if (hasName(function, functionName)) {
-                return Optional.of(function);
-            }
-        }
-
-        return Optional.empty();
-    }
-
-    private boolean hasName(Function<?> function, String name) {
-        if (function.getName().equalsIgnoreCase(name)) return true;
-        for (String alias : function.getAliases()) {
-            if (alias.equalsIgnoreCase(name)) return true;
-        }
-        return false;
+        return Optional.ofNullable(functionsByName.get(functionName.toLowerCase(Locale.ROOT)));
     }
 
     private Optional<Object> getFunctionValueSafely(Function<?> function, String argument) {
@@ -215,32 +205,25 @@ public final class FunctionManager extends Manager {
 
     // region Legacy formatting
 
-    public List<Function<?>> getDependenciesFromStringLegacy(String renderableText) {
-        List<Function<?>> dependencies = new ArrayList<>();
-
+    /**
+     * Compiles a legacy template into literal text and function calls, so that it can be evaluated repeatedly
+     * without being parsed again. Functions are looked up at compile time, so the template needs to be recompiled
+     * if it changes.
+     */
+    public LegacyTemplate compileLegacyTemplate(String renderableText) {
+        LegacyTemplate.Builder builder = new LegacyTemplate.Builder(renderableText);
         Matcher m = INFO_VARIABLE_PATTERN.matcher(renderableText);
         while (m.find()) {
-            if (m.group(1) != null && forName(m.group(1)).isPresent()) {
+            Optional<Function<?>> function = m.group(1) != null ? forName(m.group(1)) : Optional.empty();
+            if (function.isPresent()) {
                 // %variable%
-                Function<?> function = forName(m.group(1)).get();
-                dependencies.add(function);
+                m.appendReplacement(builder.literal(), "");
+                builder.addFunction(function.get());
+                continue;
             }
-        }
-
-        return dependencies;
-    }
 
-    public String[] getLinesFromLegacyTemplate(String renderableText) {
-        StringBuilder builder = new StringBuilder(renderableText.length() + 10);
-        Matcher m = INFO_VARIABLE_PATTERN.matcher(renderableText);
-        while (m.find()) {
             String replacement = null;
-            if (m.group(1) != null && forName(m.group(1)).isPresent()) {
-                // %variable%
-                Function<?> function = forName(m.group(1)).get();
-
-                replacement = getRawValueString(function, "");
-            } else if (m.group(2) != null) {
+            if (m.group(2) != null) {
                 // \escape
                 replacement = doEscapeFormat(m.group(2));
             }
@@ -248,31 +231,11 @@ public final class FunctionManager extends Manager {
                 replacement = m.group(0);
             }
 
-            m.appendReplacement(builder, replacement);
+            m.appendReplacement(builder.literal(), replacement);
         }
-        m.appendTail(builder);
+        m.appendTail(builder.literal());
 
-        return parseColorCodes(builder.toString()).split("\n");
-    }
-
-    private String parseColorCodes(String toProcess) {
-        // For every & symbol, check if the next symbol is a color code and if so, replace it with §
-        // But don't do it if a \ precedes the &
-        String validColors = "0123456789abcdefklmnor";
-        StringBuilder sb = new StringBuilder(toProcess);
-        for (int i = 0; i < sb.length(); i++) {
-            if (sb.charAt(i) == '&') { // char == &
-                if (i + 1 < sb.length()
-                        && validColors.contains(String.valueOf(sb.charAt(i + 1)))) { // char after is valid color
-                    if (i - 1 < 0 || sb.charAt(i - 1) != '\\') { // & is first char || char before is not \
-                        sb.setCharAt(i, '§');
-                    } else if (sb.charAt(i - 1) == '\\') { // & is preceded by \, just remove the \
-                        sb.deleteCharAt(i - 1);
-                    }
-                }
-            }
-        }
-        return sb.toString();
+        return builder.build();
     }
 
     private String doEscapeFormat(String escaped) {
@@ -293,6 +256,11 @@ public final class FunctionManager extends Manager {
 
     private void registerFunction(Function<?> function) {
         functions.add(function);
+
+        functionsByName.putIfAbsent(function.getName().toLowerCase(Locale.ROOT), function);
+        for (String alias : function.getAliases()) {
+            functionsByName.putIfAbsent(alias.toLowerCase(Locale.ROOT), function);
+        }
     }
 
     private void registerAllFunctions() {
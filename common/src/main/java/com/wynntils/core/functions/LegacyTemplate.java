@@ -0,0 +1,109 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.functions;
+
+import com.wynntils.core.components.Managers;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A legacy template ("%x% &cHealth: %health%\n...") compiled into literal text and function calls, see
+ * {@link FunctionManager#compileLegacyTemplate(String)}.
+ *
+ * <p>The compiled parts are immutable. The only state is the function values and lines of the last evaluation, so
+ * the color codes are only reparsed and the lines only resplit when a function value actually changed.
+ */
+public final class LegacyTemplate {
+    private static final String VALID_COLORS = "0123456789abcdefklmnor";
+
+    private final String source;
+    // Literal text around the function calls; there is always one more literal than there are functions
+    private final List<String> literals;
+    private final List<Function<?>> functions;
+
+    private String[] lastValues;
+    private String[] lastLines;
+
+    LegacyTemplate(String source, List<String> literals, List<Function<?>> functions) {
+        this.source = source;
+        this.literals = List.copyOf(literals);
+        this.functions = List.copyOf(functions);
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /** Returns the functions referenced in this template, in order of appearance */
+    public List<Function<?>> getDependencies() {
+        return functions;
+    }
+
+    /** Evaluates the template, and returns the resulting lines. The returned array must not be modified. */
+    public String[] getLines() {
+        String[] values = new String[functions.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Managers.Function.getRawValueString(functions.get(i), "");
+        }
+
+        if (lastLines != null && Arrays.equals(values, lastValues)) return lastLines;
+
+        StringBuilder builder = new StringBuilder(source.length() + 10);
+        builder.append(literals.get(0));
+        for (int i = 0; i < values.length; i++) {
+            builder.append(values[i]);
+            builder.append(literals.get(i + 1));
+        }
+
+        lastValues = values;
+        lastLines = parseColorCodes(builder).split("\n");
+        return lastLines;
+    }
+
+    private static String parseColorCodes(StringBuilder sb) {
+        // For every & symbol, check if the next symbol is a color code and if so, replace it with §
+        // But don't do it if a \ precedes the &
+        for (int i = 0; i < sb.length(); i++) {
+            if (sb.charAt(i) == '&') { // char == &
+                if (i + 1 < sb.length() && VALID_COLORS.indexOf(sb.charAt(i + 1)) != -1) { // char after is valid color
+                    if (i - 1 < 0 || sb.charAt(i - 1) != '\\') { // & is first char || char before is not \
+                        sb.setCharAt(i, '§');
+                    } else if (sb.charAt(i - 1) == '\\') { // & is preceded by \, just remove the \
+                        sb.deleteCharAt(i - 1);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    static final class Builder {
+        private final String source;
+        private final List<String> literals = new ArrayList<>();
+        private final List<Function<?>> functions = new ArrayList<>();
+        private StringBuilder literal = new StringBuilder();
+
+        Builder(String source) {
+            this.source = source;
+        }
+
+        StringBuilder literal() {
+            return literal;
+        }
+
+        void addFunction(Function<?> function) {
+            literals.add(literal.toString());
+            literal = new StringBuilder();
+            functions.add(Objects.requireNonNull(function));
+        }
+
+        LegacyTemplate build() {
+            literals.add(literal.toString());
+            return new LegacyTemplate(source, literals, functions);
+        }
+    }
+}
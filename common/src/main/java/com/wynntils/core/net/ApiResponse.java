@@ -4,17 +4,55 @@
  */
 package com.wynntils.core.net;
 
+import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Managers;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public class ApiResponse extends NetResult {
     public ApiResponse(HttpRequest request) {
         super(request);
     }
 
+    /**
+     * Like {@link #handleReader(Consumer, Consumer)}, but also passes the status code, so an error body can be told
+     * apart from an answer. Only transport failures and exceptions thrown by the handler are passed to
+     * {@code onError}.
+     */
+    public void handleStatusAndReader(BiConsumer<Integer, Reader> handler, Consumer<Throwable> onError) {
+        Managers.Net.HTTP_CLIENT
+                .sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenAcceptAsync(
+                        response -> {
+                            Reader reader = new InputStreamReader(response.body(), StandardCharsets.UTF_8);
+                            try {
+                                handler.accept(response.statusCode(), reader);
+                            } finally {
+                                // The handler has already run, so failing to close must not be reported as an error
+                                try {
+                                    reader.close();
+                                } catch (IOException e) {
+                                    WynntilsMod.warn("Failed to close the response of " + request.uri(), e);
+                                }
+                            }
+                        },
+                        TaskUtils.getExecutor(TaskLane.IO))
+                .exceptionally(e -> {
+                    onError.accept(e);
+                    return null;
+                });
+    }
+
     @Override
     protected CompletableFuture<InputStream> getInputStreamFuture() {
         CompletableFuture<InputStream> future = Managers.Net.HTTP_CLIENT
@@ -0,0 +1,86 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.net;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.wynntils.core.WynntilsMod;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * The HTTP cache validators (ETag and Last-Modified) of a downloaded file, kept in a sidecar file next to it, so the
+ * next download of the same file can be made conditional.
+ */
+record CacheValidators(String etag, String lastModified) {
+    private static final String SIDECAR_SUFFIX = ".validators";
+
+    static Optional<CacheValidators> read(File localFile) {
+        File sidecar = getSidecarFile(localFile);
+        if (!localFile.exists() || !sidecar.exists()) return Optional.empty();
+
+        try (Reader reader = Files.newBufferedReader(sidecar.toPath(), StandardCharsets.UTF_8)) {
+            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+            String etag = json.has("etag") ? json.get("etag").getAsString() : null;
+            String lastModified = json.has("lastModified") ? json.get("lastModified").getAsString() : null;
+            if (etag == null && lastModified == null) return Optional.empty();
+
+            return Optional.of(new CacheValidators(etag, lastModified));
+        } catch (IOException | RuntimeException e) {
+            WynntilsMod.warn("Failed to read cache validators for " + localFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /** Stores the validators of a successful response, or forgets the old ones if the response had none */
+    static void write(File localFile, HttpHeaders headers) {
+        File sidecar = getSidecarFile(localFile);
+        String etag = headers.firstValue("ETag").orElse(null);
+        String lastModified = headers.firstValue("Last-Modified").orElse(null);
+
+        if (etag == null && lastModified == null) {
+            FileUtils.deleteQuietly(sidecar);
+            return;
+        }
+
+        JsonObject json = new JsonObject();
+        if (etag != null) {
+            json.addProperty("etag", etag);
+        }
+        if (lastModified != null) {
+            json.addProperty("lastModified", lastModified);
+        }
+
+        try {
+            FileUtils.writeStringToFile(sidecar, json.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            WynntilsMod.warn("Failed to write cache validators for " + localFile, e);
+        }
+    }
+
+    static void delete(File localFile) {
+        FileUtils.deleteQuietly(getSidecarFile(localFile));
+    }
+
+    void addTo(HttpRequest.Builder builder) {
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            builder.header("If-Modified-Since", lastModified);
+        }
+    }
+
+    private static File getSidecarFile(File localFile) {
+        return new File(localFile.getPath() + SIDECAR_SUFFIX);
+    }
+}
@@ -6,16 +6,22 @@ package com.wynntils.core.net;
 
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Managers;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -23,6 +29,7 @@ import org.apache.commons.io.FileUtils;
 
 public class Download extends NetResult {
     private final File localFile;
+    private boolean skipIfNotModified = false;
 
     // Saved since we might need to get timestamps from the HttpResponse
     private CompletableFuture<HttpResponse<Path>> httpResponse = null;
@@ -37,6 +44,15 @@ public class Download extends NetResult {
         this.localFile = localFile;
     }
 
+    /**
+     * Do not call the handlers if the server reports the resource as not modified since it was last downloaded. Only
+     * use this if the result of the previous download is still around.
+     */
+    public Download skipIfNotModified() {
+        this.skipIfNotModified = true;
+        return this;
+    }
+
     public long getResponseTimestamp() {
         if (httpResponse == null) {
             // We have either not yet made the request, or we have read from the cache
@@ -58,22 +74,58 @@ public class Download extends NetResult {
     protected CompletableFuture<InputStream> getInputStreamFuture() {
         if (request == null) {
             // File is already in downloaded, just read from the cache
-            return CompletableFuture.supplyAsync(this::getFileInputStreamFromCache);
+            return TaskUtils.supplyAsync(TaskLane.IO, this::getFileInputStreamFromCache);
         } else {
             prepareForDownload();
-            return getDownloadInputStreamFuture().thenApply(response -> getFileInputStreamFromCache());
+            return getDownloadInputStreamFuture().thenApply(this::handleResponse);
         }
     }
 
     private CompletableFuture<HttpResponse<Path>> getDownloadInputStreamFuture() {
-        CompletableFuture<HttpResponse<Path>> future =
-                Managers.Net.HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofFile(localFile.toPath()));
+        // Download next to the cached file, so the cached file is still there if the server says it is up to date
+        CompletableFuture<HttpResponse<Path>> future = Managers.Net.HTTP_CLIENT.sendAsync(
+                request, HttpResponse.BodyHandlers.ofFile(getPartialFile().toPath()));
 
         // We must save the response so we can get the timestamp
         this.httpResponse = future;
         return future;
     }
 
+    private InputStream handleResponse(HttpResponse<Path> response) {
+        File partialFile = getPartialFile();
+
+        if (response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            FileUtils.deleteQuietly(partialFile);
+            return skipIfNotModified ? null : getFileInputStreamFromCache();
+        }
+
+        try {
+            try {
+                Files.move(
+                        partialFile.toPath(),
+                        localFile.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(partialFile.toPath(), localFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            WynntilsMod.error("Failed to move downloaded file to " + localFile, e);
+        }
+
+        if (response.statusCode() == HttpURLConnection.HTTP_OK) {
+            CacheValidators.write(localFile, response.headers());
+        } else {
+            CacheValidators.delete(localFile);
+        }
+
+        return getFileInputStreamFromCache();
+    }
+
+    private File getPartialFile() {
+        return new File(localFile.getPath() + ".part");
+    }
+
     private InputStream getFileInputStreamFromCache() {
         try {
             return new FileInputStream(localFile);
@@ -85,7 +137,7 @@ public class Download extends NetResult {
     }
 
     private void prepareForDownload() {
-        FileUtils.deleteQuietly(localFile);
+        FileUtils.deleteQuietly(getPartialFile());
         try {
             FileUtils.forceMkdirParent(localFile);
         } catch (IOException e) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.net;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.TaskUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Remembers the md5 hashes of cached files, along with their size and modification time when they were hashed. As
+ * long as those are unchanged, a file is trusted to still have the same hash, so it does not need to be read again.
+ */
+final class LocalHashIndex {
+    // Wait for a burst of hashed files to settle before writing the index
+    private static final long SAVE_DELAY_MILLIS = 1000;
+
+    private final File indexFile;
+    private final File baseDir;
+
+    // Guarded by this
+    private Map<String, HashEntry> entries;
+    private boolean saveScheduled = false;
+
+    LocalHashIndex(File indexFile, File baseDir) {
+        this.indexFile = indexFile;
+        this.baseDir = baseDir;
+    }
+
+    boolean hasHash(File localFile, String expectedHash) {
+        if (!localFile.exists()) return false;
+
+        String key = getKey(localFile);
+        long size = localFile.length();
+        long lastModified = localFile.lastModified();
+
+        HashEntry entry = getEntry(key);
+        if (entry != null && entry.size() == size && entry.lastModified() == lastModified) {
+            return entry.md5().equalsIgnoreCase(expectedHash);
+        }
+
+        try (InputStream is = Files.newInputStream(localFile.toPath())) {
+            String fileHash = DigestUtils.md5Hex(is);
+            putEntry(key, new HashEntry(size, lastModified, fileHash));
+            return fileHash.equalsIgnoreCase(expectedHash);
+        } catch (IOException e) {
+            WynntilsMod.warn("Error when calculating md5 for " + localFile.getPath(), e);
+            return false;
+        }
+    }
+
+    private synchronized HashEntry getEntry(String key) {
+        if (entries == null) {
+            entries = load();
+        }
+
+        return entries.get(key);
+    }
+
+    private synchronized void putEntry(String key, HashEntry entry) {
+        if (entries == null) {
+            entries = load();
+        }
+
+        entries.put(key, entry);
+
+        if (!saveScheduled) {
+            saveScheduled = true;
+            TaskUtils.runLater(this::save, SAVE_DELAY_MILLIS);
+        }
+    }
+
+    private String getKey(File localFile) {
+        if (localFile.toPath().startsWith(baseDir.toPath())) {
+            return baseDir.toPath().relativize(localFile.toPath()).toString();
+        }
+
+        return localFile.getAbsolutePath();
+    }
+
+    private Map<String, HashEntry> load() {
+        Map<String, HashEntry> loaded = new HashMap<>();
+        if (!indexFile.exists()) return loaded;
+
+        try (Reader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8)) {
+            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+            for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+                JsonObject entryJson = entry.getValue().getAsJsonObject();
+                loaded.put(
+                        entry.getKey(),
+                        new HashEntry(
+                                entryJson.get("size").getAsLong(),
+                                entryJson.get("lastModified").getAsLong(),
+                                entryJson.get("md5").getAsString()));
+            }
+        } catch (IOException | RuntimeException e) {
+            WynntilsMod.warn("Failed to read the hash index, cached files will be hashed again", e);
+            loaded.clear();
+        }
+
+        return loaded;
+    }
+
+    private synchronized void save() {
+        saveScheduled = false;
+
+        JsonObject json = new JsonObject();
+        entries.forEach((key, entry) -> {
+            JsonObject entryJson = new JsonObject();
+            entryJson.addProperty("size", entry.size());
+            entryJson.addProperty("lastModified", entry.lastModified());
+            entryJson.addProperty("md5", entry.md5());
+            json.add(key, entryJson);
+        });
+
+        try {
+            FileUtils.writeStringToFile(indexFile, json.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            WynntilsMod.warn("Failed to write the hash index", e);
+        }
+    }
+
+    private record HashEntry(long size, long lastModified, String md5) {}
+}
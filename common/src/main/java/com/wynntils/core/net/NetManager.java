@@ -9,23 +9,21 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Manager;
 import com.wynntils.core.components.Managers;
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.nio.file.Files;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import net.minecraft.Util;
-import org.apache.commons.codec.digest.DigestUtils;
 
 public final class NetManager extends Manager {
     static final HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
 
     private static final int REQUEST_TIMEOUT_MILLIS = 10000;
     private static final File CACHE_DIR = WynntilsMod.getModStorageDir("cache");
+    // Static, since NetManager is instantiated twice, and both instances must share one index file
+    private static final LocalHashIndex HASH_INDEX = new LocalHashIndex(new File(CACHE_DIR, "hashes.json"), CACHE_DIR);
     private static final String USER_AGENT = String.format(
             "Wynntils Artemis\\%s (%s) %s",
             WynntilsMod.getVersion(),
@@ -48,8 +46,12 @@ public final class NetManager extends Manager {
         return callApi(urlId, Map.of());
     }
 
+    /**
+     * Downloads to {@code file}. If the file was downloaded before, the request is made conditional on the server's
+     * validators, so an unchanged resource is just read from the cache.
+     */
     public Download download(URI uri, File file) {
-        return new Download(file, createGetRequest(uri));
+        return new Download(file, createConditionalGetRequest(uri, file));
     }
 
     public Download download(URI uri, File file, String expectedHash) {
@@ -57,7 +59,8 @@ public final class NetManager extends Manager {
             return new Download(file);
         }
 
-        return download(uri, file);
+        // The local file is known to be outdated, so the server's validators for it can't be trusted
+        return new Download(file, createGetRequest(uri));
     }
 
     public Download download(URI uri, String localFileName) {
@@ -99,11 +102,20 @@ public final class NetManager extends Manager {
     }
 
     private HttpRequest createGetRequest(URI uri) {
+        return createGetRequestBuilder(uri).build();
+    }
+
+    private HttpRequest createConditionalGetRequest(URI uri, File localFile) {
+        HttpRequest.Builder builder = createGetRequestBuilder(uri);
+        CacheValidators.read(localFile).ifPresent(validators -> validators.addTo(builder));
+        return builder.build();
+    }
+
+    private HttpRequest.Builder createGetRequestBuilder(URI uri) {
         return HttpRequest.newBuilder()
                 .uri(uri)
                 .timeout(Duration.ofMillis(REQUEST_TIMEOUT_MILLIS))
-                .header("User-Agent", USER_AGENT)
-                .build();
+                .header("User-Agent", USER_AGENT);
     }
 
     private HttpRequest createPostRequest(URI uri, JsonObject jsonArgs) {
@@ -134,14 +146,6 @@ public final class NetManager extends Manager {
     }
 
     private boolean checkLocalHash(File localFile, String expectedHash) {
-        if (!localFile.exists()) return false;
-
-        try (InputStream is = Files.newInputStream(localFile.toPath())) {
-            String fileHash = DigestUtils.md5Hex(is);
-            return fileHash.equalsIgnoreCase(expectedHash);
-        } catch (IOException e) {
-            WynntilsMod.warn("Error when calculating md5 for " + localFile.getPath(), e);
-            return false;
-        }
+        return HASH_INDEX.hasHash(localFile, expectedHash);
     }
 }
@@ -8,6 +8,8 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -60,8 +62,9 @@ public abstract class NetResult {
     }
 
     private void doHandle(Consumer<InputStream> onCompletion, Consumer<Throwable> onError) {
+        // Handle the response on our own IO lane, instead of the HttpClient threads
         CompletableFuture<Void> future = getInputStreamFuture()
-                .thenAccept(wrappingHandler(onCompletion))
+                .thenAcceptAsync(wrappingHandler(onCompletion), TaskUtils.getExecutor(TaskLane.IO))
                 .exceptionally(e -> {
                     // FIXME: Error handling
                     onError.accept(e);
@@ -71,6 +74,9 @@ public abstract class NetResult {
 
     private Consumer<InputStream> wrappingHandler(Consumer<InputStream> c) {
         return (inputStream) -> {
+            // No input stream means there is nothing new to handle
+            if (inputStream == null) return;
+
             try {
                 c.accept(inputStream);
             } catch (Throwable t) {
@@ -87,5 +93,6 @@ public abstract class NetResult {
         };
     }
 
+    /** The future may complete with {@code null} if there is nothing to handle */
     protected abstract CompletableFuture<InputStream> getInputStreamFuture();
 }
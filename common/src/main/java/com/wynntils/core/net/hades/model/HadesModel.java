@@ -23,14 +23,14 @@ import com.wynntils.hades.protocol.packets.client.HCPacketUpdateStatus;
 import com.wynntils.hades.protocol.packets.client.HCPacketUpdateWorld;
 import com.wynntils.mc.event.ClientTickEvent;
 import com.wynntils.mc.utils.McUtils;
+import com.wynntils.utils.TaskUtils;
 import com.wynntils.wynn.event.CharacterUpdateEvent;
 import com.wynntils.wynn.event.RelationsUpdateEvent;
 import com.wynntils.wynn.event.WorldStateEvent;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.player.LocalPlayer;
@@ -48,7 +48,7 @@ public final class HadesModel extends Model {
     private HadesConnection hadesConnection;
     private int tickCountUntilUpdate = 0;
     private PlayerStatus lastSentStatus;
-    private ScheduledExecutorService pingScheduler;
+    private ScheduledFuture<?> pingTask;
 
     @Override
     public void init() {
@@ -97,13 +97,18 @@ public final class HadesModel extends Model {
 
     @SubscribeEvent
     public void onAuth(HadesEvent.Authenticated event) {
-        pingScheduler = Executors.newSingleThreadScheduledExecutor();
-        pingScheduler.scheduleAtFixedRate(this::sendPing, 0, MS_PER_PING, TimeUnit.MILLISECONDS);
+        if (pingTask != null) {
+            pingTask.cancel(false);
+        }
+        pingTask = TaskUtils.scheduleAtFixedRate(this::sendPing, 0, MS_PER_PING, TimeUnit.MILLISECONDS);
     }
 
     @SubscribeEvent
     public void onDisconnect(HadesEvent.Disconnected event) {
-        pingScheduler.shutdown();
+        if (pingTask != null) {
+            pingTask.cancel(false);
+            pingTask = null;
+        }
     }
 
     private void sendPing() {
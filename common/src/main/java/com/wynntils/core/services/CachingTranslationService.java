@@ -6,6 +6,7 @@ package com.wynntils.core.services;
 
 import com.google.gson.reflect.TypeToken;
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.TaskLane;
 import com.wynntils.utils.TaskUtils;
 import java.io.File;
 import java.io.IOException;
@@ -32,14 +33,14 @@ public abstract class CachingTranslationService implements TranslationService {
         translationCache.put(createKey(message), translatedMessage);
         if (++counter % 16 == 0) {
             // Persist translation cache in background
-            TaskUtils.runAsync(CachingTranslationService::saveTranslationCache);
+            TaskUtils.runAsync(TaskLane.IO, CachingTranslationService::saveTranslationCache);
         }
     }
 
     @Override
     public void translate(List<String> message, String toLanguage, Consumer<List<String>> handleTranslation) {
         if (message.isEmpty()) {
-            TaskUtils.runAsync(() -> handleTranslation.accept(List.of()));
+            TaskUtils.runAsync(TaskLane.SERIAL, () -> handleTranslation.accept(List.of()));
             return;
         }
 
@@ -47,7 +48,7 @@ public abstract class CachingTranslationService implements TranslationService {
                 translationCaches.computeIfAbsent(toLanguage, k -> new ConcurrentHashMap<>());
         List<String> cachedTranslation = translationCache.get(createKey(message));
         if (cachedTranslation != null) {
-            TaskUtils.runAsync(() -> handleTranslation.accept(cachedTranslation));
+            TaskUtils.runAsync(TaskLane.SERIAL, () -> handleTranslation.accept(cachedTranslation));
             return;
         }
 
@@ -8,6 +8,7 @@ import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.features.user.TranslationFeature;
+import com.wynntils.utils.TaskLane;
 import com.wynntils.utils.TaskUtils;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
@@ -100,7 +101,7 @@ public final class TranslationModel extends Model {
                 }
                 resultList.add(latinString.toString());
             }
-            TaskUtils.runAsync(() -> handleTranslation.accept(resultList));
+            TaskUtils.runAsync(TaskLane.SERIAL, () -> handleTranslation.accept(resultList));
         }
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.features.debug;
+
+import com.mojang.blaze3d.platform.Window;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.features.DebugFeature;
+import com.wynntils.core.features.overlays.Overlay;
+import com.wynntils.core.features.overlays.OverlayPosition;
+import com.wynntils.core.features.overlays.annotations.OverlayInfo;
+import com.wynntils.core.features.overlays.sizes.GuiScaledOverlaySize;
+import com.wynntils.gui.render.DrawCallCounter;
+import com.wynntils.gui.render.FontRenderer;
+import com.wynntils.gui.render.HorizontalAlignment;
+import com.wynntils.gui.render.TextRenderSetting;
+import com.wynntils.gui.render.TextRenderTask;
+import com.wynntils.gui.render.VerticalAlignment;
+import com.wynntils.mc.event.RenderEvent;
+import java.util.List;
+import net.minecraft.ChatFormatting;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+public class DrawCallCounterFeature extends DebugFeature {
+    @OverlayInfo(renderType = RenderEvent.ElementType.GUI)
+    private final Overlay drawCallCounterOverlay = new DrawCallCounterOverlay();
+
+    @SubscribeEvent
+    public void onRenderGuiPre(RenderEvent.Pre event) {
+        if (event.getType() != RenderEvent.ElementType.GUI) return;
+
+        DrawCallCounter.nextFrame();
+    }
+
+    public static class DrawCallCounterOverlay extends Overlay {
+        protected DrawCallCounterOverlay() {
+            super(
+                    new OverlayPosition(
+                            5,
+                            -5,
+                            VerticalAlignment.Top,
+                            HorizontalAlignment.Right,
+                            OverlayPosition.AnchorSection.TopRight),
+                    new GuiScaledOverlaySize(150, 20));
+        }
+
+        @Override
+        public void render(PoseStack poseStack, float partialTicks, Window window) {
+            List<TextRenderTask> lines = List.of(
+                    new TextRenderTask(
+                            ChatFormatting.YELLOW + "Draw calls: " + DrawCallCounter.getLastFrameDrawCalls(),
+                            TextRenderSetting.DEFAULT),
+                    new TextRenderTask(
+                            ChatFormatting.GRAY + "Batched quads: " + DrawCallCounter.getLastFrameBatchedQuads(),
+                            TextRenderSetting.DEFAULT));
+
+            FontRenderer.getInstance()
+                    .renderTextsWithAlignment(
+                            poseStack,
+                            this.getRenderX(),
+                            this.getRenderY(),
+                            lines,
+                            this.getWidth(),
+                            this.getHeight(),
+                            this.getRenderHorizontalAlignment(),
+                            this.getRenderVerticalAlignment());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.features.debug;
+
+import com.mojang.blaze3d.platform.Window;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.events.EventProfiler;
+import com.wynntils.core.features.DebugFeature;
+import com.wynntils.core.features.overlays.Overlay;
+import com.wynntils.core.features.overlays.OverlayPosition;
+import com.wynntils.core.features.overlays.annotations.OverlayInfo;
+import com.wynntils.core.features.overlays.sizes.GuiScaledOverlaySize;
+import com.wynntils.gui.render.FontRenderer;
+import com.wynntils.gui.render.HorizontalAlignment;
+import com.wynntils.gui.render.TextRenderSetting;
+import com.wynntils.gui.render.TextRenderTask;
+import com.wynntils.gui.render.VerticalAlignment;
+import com.wynntils.mc.event.RenderEvent;
+import java.util.List;
+import net.minecraft.ChatFormatting;
+
+public class EventProfilerFeature extends DebugFeature {
+    @OverlayInfo(renderType = RenderEvent.ElementType.GUI)
+    private final Overlay eventProfilerOverlay = new EventProfilerOverlay();
+
+    public static class EventProfilerOverlay extends Overlay {
+        private static final int LISTENER_COUNT = 10;
+        private static final long REFRESH_INTERVAL_MS = 1000;
+
+        private List<TextRenderTask> cachedLines = List.of();
+        private long lastRefresh = 0;
+
+        protected EventProfilerOverlay() {
+            super(
+                    new OverlayPosition(
+                            5,
+                            5,
+                            VerticalAlignment.Top,
+                            HorizontalAlignment.Left,
+                            OverlayPosition.AnchorSection.TopLeft),
+                    new GuiScaledOverlaySize(300, 120));
+        }
+
+        @Override
+        public void render(PoseStack poseStack, float partialTicks, Window window) {
+            if (!EventProfiler.isEnabled()) return;
+
+            // Sorting all listener stats every frame would show up in the profile itself
+            if (System.currentTimeMillis() - lastRefresh > REFRESH_INTERVAL_MS) {
+                lastRefresh = System.currentTimeMillis();
+                cachedLines = EventProfiler.getListenerStats().stream()
+                        .limit(LISTENER_COUNT)
+                        .map(stats -> new TextRenderTask(
+                                String.format(
+                                        "%s%.1f ms %sp99 %.0f µs %s%s",
+                                        ChatFormatting.YELLOW,
+                                        stats.getTotalNanos() / 1e6,
+                                        ChatFormatting.GOLD,
+                                        stats.getP99Nanos() / 1e3,
+                                        ChatFormatting.GRAY,
+                                        stats.getName()),
+                                TextRenderSetting.DEFAULT.withMaxWidth(this.getWidth())))
+                        .toList();
+            }
+
+            FontRenderer.getInstance()
+                    .renderTextsWithAlignment(
+                            poseStack,
+                            this.getRenderX(),
+                            this.getRenderY(),
+                            cachedLines,
+                            this.getWidth(),
+                            this.getHeight(),
+                            this.getRenderHorizontalAlignment(),
+                            this.getRenderVerticalAlignment());
+        }
+    }
+}
@@ -36,6 +36,9 @@ public class ChatCoordinatesFeature extends UserFeature {
     public void onChatReceived(ChatMessageReceivedEvent e) {
         if (!WynnUtils.onWorld()) return;
 
+        // Check the already flattened message first, so we don't have to flatten it again
+        if (!LocationUtils.strictCoordinateMatcher(e.getCodedMessage()).find()) return;
+
         Component message = e.getMessage();
 
         e.setMessage(insertCoordinateComponents(message));
@@ -4,11 +4,13 @@
  */
 package com.wynntils.features.user;
 
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.config.Config;
 import com.wynntils.core.features.UserFeature;
-import com.wynntils.gui.render.RenderUtils;
+import com.wynntils.gui.render.decorations.SlotDecorations;
+import com.wynntils.gui.render.decorations.SlotDecorator;
 import com.wynntils.gui.screens.TextboxScreen;
 import com.wynntils.gui.widgets.SearchWidget;
 import com.wynntils.mc.event.ContainerCloseEvent;
@@ -16,7 +18,6 @@ import com.wynntils.mc.event.ContainerSetContentEvent;
 import com.wynntils.mc.event.ContainerSetSlotEvent;
 import com.wynntils.mc.event.InventoryKeyPressEvent;
 import com.wynntils.mc.event.ScreenInitEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
 import com.wynntils.mc.objects.CommonColors;
 import com.wynntils.mc.objects.CustomColor;
 import com.wynntils.mc.utils.ComponentUtils;
@@ -35,7 +36,7 @@ import net.minecraft.world.item.Items;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.lwjgl.glfw.GLFW;
 
-public class ContainerSearchFeature extends UserFeature {
+public class ContainerSearchFeature extends UserFeature implements SlotDecorator {
     @Config
     public boolean filterInBank = true;
 
@@ -57,6 +58,17 @@ public class ContainerSearchFeature extends UserFeature {
         return List.of(Models.SearchOverlayProperty);
     }
 
+    @Override
+    protected boolean onEnable() {
+        Managers.SlotDecoration.registerDecorator(this);
+        return true;
+    }
+
+    @Override
+    protected void onDisable() {
+        Managers.SlotDecoration.unregisterDecorator(this);
+    }
+
     @SubscribeEvent
     public void onScreenInit(ScreenInitEvent event) {
         if (!(event.getScreen() instanceof AbstractContainerScreen<?> screen)) return;
@@ -77,15 +89,15 @@ public class ContainerSearchFeature extends UserFeature {
         addSearchWidget(screen, renderX, renderY);
     }
 
-    @SubscribeEvent
-    public void onRenderSlot(SlotRenderEvent.Pre e) {
-        ItemStack item = e.getSlot().getItem();
+    @Override
+    public void decorateBackground(SlotDecorations decorations, ItemStack item, int slotX, int slotY, boolean hotbar) {
+        if (hotbar) return;
 
         if (!(item instanceof WynnItemStack wynnItemStack)) return;
 
         if (!wynnItemStack.getProperty(ItemProperty.SEARCH_OVERLAY).isSearched()) return;
 
-        RenderUtils.drawArc(highlightColor, e.getSlot().x, e.getSlot().y, 200, 1f, 6, 8);
+        decorations.drawArc(highlightColor, slotX, slotY, 200, 1f, 6, 8);
     }
 
     @SubscribeEvent
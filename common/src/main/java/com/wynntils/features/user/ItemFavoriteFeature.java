@@ -5,16 +5,16 @@
 package com.wynntils.features.user;
 
 import com.google.common.reflect.TypeToken;
-import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.config.Config;
 import com.wynntils.core.config.TypeOverride;
 import com.wynntils.core.features.UserFeature;
-import com.wynntils.gui.render.RenderUtils;
 import com.wynntils.gui.render.Texture;
+import com.wynntils.gui.render.decorations.SlotDecorations;
+import com.wynntils.gui.render.decorations.SlotDecorator;
 import com.wynntils.mc.event.ContainerCloseEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
 import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.wynn.item.GearItemStack;
@@ -34,7 +34,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 
-public class ItemFavoriteFeature extends UserFeature {
+public class ItemFavoriteFeature extends UserFeature implements SlotDecorator {
     public static ItemFavoriteFeature INSTANCE;
 
     @Config(visible = false)
@@ -48,6 +48,17 @@ public class ItemFavoriteFeature extends UserFeature {
         return List.of(Models.GearItemStack, Models.IngredientItemStack, Models.UnidentifiedItemStack);
     }
 
+    @Override
+    protected boolean onEnable() {
+        Managers.SlotDecoration.registerDecorator(this);
+        return true;
+    }
+
+    @Override
+    protected void onDisable() {
+        Managers.SlotDecoration.unregisterDecorator(this);
+    }
+
     @SubscribeEvent
     public void onChestCloseAttempt(ContainerCloseEvent.Pre e) {
         if (!WynnUtils.onWorld()) return;
@@ -66,12 +77,13 @@ public class ItemFavoriteFeature extends UserFeature {
         }
     }
 
-    @SubscribeEvent
-    public void onRenderSlot(SlotRenderEvent.Post event) {
-        ItemStack itemStack = event.getSlot().getItem();
+    @Override
+    public void decorateForeground(
+            SlotDecorations decorations, ItemStack itemStack, int slotX, int slotY, boolean hotbar) {
+        if (hotbar) return;
 
         if (isFavorited(itemStack)) {
-            renderFavoriteItem(event);
+            renderFavoriteItem(decorations, slotX, slotY);
         }
     }
 
@@ -113,12 +125,11 @@ public class ItemFavoriteFeature extends UserFeature {
         return unformattedName;
     }
 
-    private static void renderFavoriteItem(SlotRenderEvent.Post event) {
-        RenderUtils.drawScalingTexturedRect(
-                new PoseStack(),
+    private static void renderFavoriteItem(SlotDecorations decorations, int slotX, int slotY) {
+        decorations.drawScalingTexturedRect(
                 Texture.FAVORITE.resource(),
-                event.getSlot().x + 10,
-                event.getSlot().y + 8,
+                slotX + 10,
+                slotY + 8,
                 400,
                 9,
                 9,
@@ -4,6 +4,7 @@
  */
 package com.wynntils.features.user.inventory;
 
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.config.Config;
@@ -11,9 +12,8 @@ import com.wynntils.core.features.UserFeature;
 import com.wynntils.core.features.properties.FeatureCategory;
 import com.wynntils.core.features.properties.FeatureInfo;
 import com.wynntils.core.features.properties.FeatureInfo.Stability;
-import com.wynntils.gui.render.RenderUtils;
-import com.wynntils.mc.event.HotbarSlotRenderEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
+import com.wynntils.gui.render.decorations.SlotDecorations;
+import com.wynntils.gui.render.decorations.SlotDecorator;
 import com.wynntils.mc.objects.CustomColor;
 import com.wynntils.wynn.item.WynnItemStack;
 import com.wynntils.wynn.item.properties.DurabilityProperty;
@@ -21,10 +21,9 @@ import com.wynntils.wynn.item.properties.ItemProperty;
 import java.util.List;
 import net.minecraft.util.Mth;
 import net.minecraft.world.item.ItemStack;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 @FeatureInfo(stability = Stability.STABLE, category = FeatureCategory.INVENTORY)
-public class DurabilityArcFeature extends UserFeature {
+public class DurabilityArcFeature extends UserFeature implements SlotDecorator {
     @Config
     public boolean renderDurabilityArcInventories = true;
 
@@ -36,19 +35,20 @@ public class DurabilityArcFeature extends UserFeature {
         return List.of(Models.DurabilityProperty);
     }
 
-    @SubscribeEvent
-    public void onRenderHotbarSlot(HotbarSlotRenderEvent.Pre e) {
-        if (!renderDurabilityArcHotbar) return;
-        drawDurabilityArc(e.getStack(), e.getX(), e.getY(), true);
+    @Override
+    protected boolean onEnable() {
+        Managers.SlotDecoration.registerDecorator(this);
+        return true;
     }
 
-    @SubscribeEvent
-    public void onRenderSlot(SlotRenderEvent.Pre e) {
-        if (!renderDurabilityArcInventories) return;
-        drawDurabilityArc(e.getSlot().getItem(), e.getSlot().x, e.getSlot().y, false);
+    @Override
+    protected void onDisable() {
+        Managers.SlotDecoration.unregisterDecorator(this);
     }
 
-    private void drawDurabilityArc(ItemStack item, int slotX, int slotY, boolean hotbar) {
+    @Override
+    public void decorateBackground(SlotDecorations decorations, ItemStack item, int slotX, int slotY, boolean hotbar) {
+        if (!(hotbar ? renderDurabilityArcHotbar : renderDurabilityArcInventories)) return;
         if (!(item instanceof WynnItemStack wynnItem)) return;
 
         if (!wynnItem.hasProperty(ItemProperty.DURABILITY)) return; // no durability info
@@ -60,6 +60,6 @@ public class DurabilityArcFeature extends UserFeature {
         CustomColor color = CustomColor.fromInt(colorInt).withAlpha(160);
 
         // draw
-        RenderUtils.drawArc(color, slotX, slotY, hotbar ? 0 : 200, durabilityPercent, 6, 8);
+        decorations.drawArc(color, slotX, slotY, hotbar ? 0 : 200, durabilityPercent, 6, 8);
     }
 }
@@ -53,10 +53,13 @@ public class InventoryEmeraldCountFeature extends UserFeature {
 
     @SubscribeEvent
     public void onContainerRender(ContainerRenderEvent event) {
-        int emeralds = ContainerUtils.getEmeraldCountInContainer(McUtils.containerMenu());
-
-        if (!(event.getScreen() instanceof InventoryScreen)) {
-            emeralds -= Models.PlayerInventory.getCurrentEmeraldCount();
+        int emeralds;
+        if (event.getScreen() instanceof InventoryScreen) {
+            // The player inventory is already counted, no need to rescan it every frame
+            emeralds = Models.PlayerInventory.getCurrentEmeraldCount();
+        } else {
+            emeralds = ContainerUtils.getEmeraldCountInContainer(McUtils.containerMenu())
+                    - Models.PlayerInventory.getCurrentEmeraldCount();
         }
 
         if (emeralds == 0) return;
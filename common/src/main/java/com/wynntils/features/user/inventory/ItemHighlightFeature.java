@@ -4,6 +4,7 @@
  */
 package com.wynntils.features.user.inventory;
 
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.config.Config;
@@ -11,10 +12,9 @@ import com.wynntils.core.features.UserFeature;
 import com.wynntils.core.features.properties.FeatureCategory;
 import com.wynntils.core.features.properties.FeatureInfo;
 import com.wynntils.core.features.properties.FeatureInfo.Stability;
-import com.wynntils.gui.render.RenderUtils;
 import com.wynntils.gui.render.Texture;
-import com.wynntils.mc.event.HotbarSlotRenderEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
+import com.wynntils.gui.render.decorations.SlotDecorations;
+import com.wynntils.gui.render.decorations.SlotDecorator;
 import com.wynntils.mc.objects.CustomColor;
 import com.wynntils.wynn.item.WynnItemStack;
 import com.wynntils.wynn.item.properties.ItemProperty;
@@ -22,10 +22,9 @@ import com.wynntils.wynn.item.properties.type.HighlightProperty;
 import java.util.List;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.eventbus.api.EventPriority;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 @FeatureInfo(stability = Stability.STABLE, category = FeatureCategory.INVENTORY)
-public class ItemHighlightFeature extends UserFeature {
+public class ItemHighlightFeature extends UserFeature implements SlotDecorator {
     public static final List<Model> HIGHLIGHT_PROPERTIES = List.of(
             Models.CosmeticTierProperty,
             Models.EmeraldPouchItemStack,
@@ -152,18 +151,34 @@ public class ItemHighlightFeature extends UserFeature {
         return HIGHLIGHT_PROPERTIES;
     }
 
-    @SubscribeEvent(priority = EventPriority.HIGHEST)
-    public void onRenderSlot(SlotRenderEvent.Pre e) {
-        if (!inventoryHighlightEnabled) return;
+    @Override
+    protected boolean onEnable() {
+        Managers.SlotDecoration.registerDecorator(this, EventPriority.HIGHEST);
+        return true;
+    }
+
+    @Override
+    protected void onDisable() {
+        Managers.SlotDecoration.unregisterDecorator(this);
+    }
+
+    @Override
+    public void decorateBackground(SlotDecorations decorations, ItemStack item, int slotX, int slotY, boolean hotbar) {
+        if (!(hotbar ? hotbarHighlightEnabled : inventoryHighlightEnabled)) return;
 
-        CustomColor color = getHighlightColor(e.getSlot().getItem(), false);
+        CustomColor color = getHighlightColor(item, hotbar);
         if (color == CustomColor.NONE) return;
 
-        RenderUtils.drawTexturedRectWithColor(
+        if (hotbar) {
+            decorations.drawRect(color.withAlpha(hotbarOpacity), slotX, slotY, 0, 16, 16);
+            return;
+        }
+
+        decorations.drawTexturedRectWithColor(
                 Texture.HIGHLIGHT.resource(),
                 color.withAlpha(inventoryOpacity),
-                e.getSlot().x - 1,
-                e.getSlot().y - 1,
+                slotX - 1,
+                slotY - 1,
                 200,
                 18,
                 18,
@@ -171,16 +186,6 @@ public class ItemHighlightFeature extends UserFeature {
                 Texture.HIGHLIGHT.height());
     }
 
-    @SubscribeEvent
-    public void onRenderHotbarSlot(HotbarSlotRenderEvent.Pre e) {
-        if (!hotbarHighlightEnabled) return;
-
-        CustomColor color = getHighlightColor(e.getStack(), true);
-        if (color == CustomColor.NONE) return;
-
-        RenderUtils.drawRect(color.withAlpha(hotbarOpacity), e.getX(), e.getY(), 0, 16, 16);
-    }
-
     private CustomColor getHighlightColor(ItemStack item, boolean hotbarHighlight) {
         if (!(item instanceof WynnItemStack wynnItem)) return CustomColor.NONE;
 
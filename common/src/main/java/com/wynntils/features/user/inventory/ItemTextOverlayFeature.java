@@ -4,8 +4,8 @@
  */
 package com.wynntils.features.user.inventory;
 
-import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.config.Config;
@@ -13,17 +13,16 @@ import com.wynntils.core.features.UserFeature;
 import com.wynntils.core.features.properties.FeatureCategory;
 import com.wynntils.core.features.properties.FeatureInfo;
 import com.wynntils.gui.render.FontRenderer;
-import com.wynntils.mc.event.HotbarSlotRenderEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
+import com.wynntils.gui.render.decorations.SlotDecorations;
+import com.wynntils.gui.render.decorations.SlotDecorator;
 import com.wynntils.wynn.item.WynnItemStack;
 import com.wynntils.wynn.item.properties.ItemProperty;
 import com.wynntils.wynn.item.properties.type.TextOverlayProperty;
 import java.util.List;
 import net.minecraft.world.item.ItemStack;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 @FeatureInfo(category = FeatureCategory.INVENTORY)
-public class ItemTextOverlayFeature extends UserFeature {
+public class ItemTextOverlayFeature extends UserFeature implements SlotDecorator {
     public static final List<Model> TEXT_OVERLAY_PROPERTIES = List.of(
             Models.AmplifierTierProperty,
             Models.ConsumableChargeProperty,
@@ -110,25 +109,27 @@ public class ItemTextOverlayFeature extends UserFeature {
         return TEXT_OVERLAY_PROPERTIES;
     }
 
-    @SubscribeEvent
-    public void onRenderSlot(SlotRenderEvent.Post e) {
-        if (!inventoryTextOverlayEnabled) return;
-
-        drawTextOverlay(e.getSlot().getItem(), e.getSlot().x, e.getSlot().y, false);
+    @Override
+    protected boolean onEnable() {
+        Managers.SlotDecoration.registerDecorator(this);
+        return true;
     }
 
-    @SubscribeEvent
-    public void onRenderHotbarSlot(HotbarSlotRenderEvent.Post e) {
-        if (!hotbarTextOverlayEnabled) return;
-
-        drawTextOverlay(e.getStack(), e.getX(), e.getY(), true);
+    @Override
+    protected void onDisable() {
+        Managers.SlotDecoration.unregisterDecorator(this);
     }
 
-    private void drawTextOverlay(ItemStack item, int slotX, int slotY, boolean hotbar) {
+    @Override
+    public void decorateForeground(SlotDecorations decorations, ItemStack item, int slotX, int slotY, boolean hotbar) {
+        if (!(hotbar ? hotbarTextOverlayEnabled : inventoryTextOverlayEnabled)) return;
         if (!(item instanceof WynnItemStack wynnItem)) return;
         if (!wynnItem.hasProperty(ItemProperty.TEXT_OVERLAY)) return;
 
-        for (TextOverlayProperty overlayProperty : wynnItem.getProperties(ItemProperty.TEXT_OVERLAY)) {
+        // Indexed loop, as this runs for every slot in every frame
+        List<TextOverlayProperty> overlayProperties = wynnItem.getProperties(ItemProperty.TEXT_OVERLAY);
+        for (int i = 0; i < overlayProperties.size(); i++) {
+            TextOverlayProperty overlayProperty = overlayProperties.get(i);
             boolean contextEnabled = hotbar ? overlayProperty.isHotbarText() : overlayProperty.isInventoryText();
             if (!overlayProperty.isTextOverlayEnabled() || !contextEnabled) continue; // not enabled or wrong context
 
@@ -139,12 +140,10 @@ public class ItemTextOverlayFeature extends UserFeature {
                 continue;
             }
 
-            PoseStack poseStack = new PoseStack();
-            poseStack.translate(0, 0, 300); // items are drawn at z300, so text has to be as well
-            poseStack.scale(textOverlay.scale(), textOverlay.scale(), 1f);
             float x = (slotX + textOverlay.xOffset()) / textOverlay.scale();
             float y = (slotY + textOverlay.yOffset()) / textOverlay.scale();
-            FontRenderer.getInstance().renderText(poseStack, x, y, textOverlay.task());
+            // items are drawn at z300, so text has to be as well
+            decorations.drawText(textOverlay.task(), x, y, 300, textOverlay.scale());
         }
     }
 }
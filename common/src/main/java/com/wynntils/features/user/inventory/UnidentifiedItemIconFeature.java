@@ -4,24 +4,22 @@
  */
 package com.wynntils.features.user.inventory;
 
-import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.config.Config;
 import com.wynntils.core.features.UserFeature;
 import com.wynntils.core.features.properties.FeatureCategory;
 import com.wynntils.core.features.properties.FeatureInfo;
-import com.wynntils.gui.render.RenderUtils;
 import com.wynntils.gui.render.Texture;
-import com.wynntils.mc.event.HotbarSlotRenderEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
+import com.wynntils.gui.render.decorations.SlotDecorations;
+import com.wynntils.gui.render.decorations.SlotDecorator;
 import com.wynntils.wynn.item.UnidentifiedItemStack;
 import java.util.List;
 import net.minecraft.world.item.ItemStack;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 @FeatureInfo(category = FeatureCategory.INVENTORY)
-public class UnidentifiedItemIconFeature extends UserFeature {
+public class UnidentifiedItemIconFeature extends UserFeature implements SlotDecorator {
     @Config
     public UnidentifiedItemTextures texture = UnidentifiedItemTextures.Wynn;
 
@@ -30,22 +28,23 @@ public class UnidentifiedItemIconFeature extends UserFeature {
         return List.of(Models.UnidentifiedItemStack);
     }
 
-    @SubscribeEvent
-    public void onSlotRender(SlotRenderEvent.Post e) {
-        drawIcon(e.getSlot().getItem(), e.getSlot().x, e.getSlot().y);
+    @Override
+    protected boolean onEnable() {
+        Managers.SlotDecoration.registerDecorator(this);
+        return true;
     }
 
-    @SubscribeEvent
-    public void onHotbarSlotRender(HotbarSlotRenderEvent.Post e) {
-        drawIcon(e.getStack(), e.getX(), e.getY());
+    @Override
+    protected void onDisable() {
+        Managers.SlotDecoration.unregisterDecorator(this);
     }
 
-    private void drawIcon(ItemStack item, int slotX, int slotY) {
+    @Override
+    public void decorateForeground(SlotDecorations decorations, ItemStack item, int slotX, int slotY, boolean hotbar) {
         if (!(item instanceof UnidentifiedItemStack unidentifiedItem)) return;
         if (unidentifiedItem.getItemType().isEmpty()) return;
 
-        RenderUtils.drawTexturedRect(
-                new PoseStack(),
+        decorations.drawTexturedRect(
                 Texture.GEAR_ICONS.resource(),
                 slotX + 2,
                 slotY + 2,
@@ -21,6 +21,7 @@ import com.wynntils.core.features.properties.FeatureInfo;
 import com.wynntils.gui.render.FontRenderer;
 import com.wynntils.gui.render.HorizontalAlignment;
 import com.wynntils.gui.render.MapRenderer;
+import com.wynntils.gui.render.RenderBatch;
 import com.wynntils.gui.render.RenderUtils;
 import com.wynntils.gui.render.TextRenderSetting;
 import com.wynntils.gui.render.TextRenderTask;
@@ -34,11 +35,14 @@ import com.wynntils.utils.BoundingBox;
 import com.wynntils.utils.MathUtils;
 import com.wynntils.utils.StringUtils;
 import com.wynntils.wynn.model.map.MapTexture;
+import com.wynntils.wynn.model.map.poi.CombatPoi;
+import com.wynntils.wynn.model.map.poi.DisplayPriority;
+import com.wynntils.wynn.model.map.poi.IconPoi;
 import com.wynntils.wynn.model.map.poi.PlayerMiniMapPoi;
 import com.wynntils.wynn.model.map.poi.Poi;
+import com.wynntils.wynn.model.map.poi.ServicePoi;
 import com.wynntils.wynn.model.map.poi.WaypointPoi;
 import com.wynntils.wynn.utils.WynnUtils;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -98,6 +102,8 @@ public class MinimapFeature extends UserFeature {
         @Config(subcategory = "Remote Players")
         public float remotePlayersHeadScale = 0.6f;
 
+        private final RenderBatch iconBatch = new RenderBatch();
+
         protected MinimapOverlay() {
             super(
                     new OverlayPosition(
@@ -161,7 +167,7 @@ public class MinimapFeature extends UserFeature {
                 }
             }
 
-            List<MapTexture> maps = Models.Map.getMapsForBoundingBox(textureBoundingBox);
+            List<MapTexture> maps = Models.Map.getMapsForBoundingBox(textureBoundingBox, this.scale);
             for (MapTexture map : maps) {
                 float textureX = map.getTextureXPosition(playerX);
                 float textureZ = map.getTextureZPosition(playerZ);
@@ -229,7 +235,9 @@ public class MinimapFeature extends UserFeature {
 
             float currentZoom = 1f / scale;
 
-            List<Poi> poisToRender = new ArrayList<>(Models.Map.getServicePois());
+            List<Poi> poisToRender = Models.Map.queryPois(
+                    MapRenderer.getPoiQueryBox(textureBoundingBox, poiScale),
+                    poi -> poi instanceof ServicePoi || poi instanceof CombatPoi);
             poisToRender.addAll(MapFeature.INSTANCE.customPois);
             List<PlayerMiniMapPoi> playerPois = Models.HadesUser.getHadesUserMap().values().stream()
                     .filter(user -> (user.isPartyMember() && renderRemotePartyPlayers)
@@ -238,11 +246,17 @@ public class MinimapFeature extends UserFeature {
                     .toList();
             poisToRender.addAll(playerPois);
 
-            poisToRender.addAll(Models.Map.getCombatPois());
-
             // Reverse order to make sure higher priority is drawn later than lower priority to overwrite them
             poisToRender.sort(Comparator.comparing(Poi::getDisplayPriority).reversed());
+
+            // Icons are batched per display priority, so they still overwrite the icons of a lower priority
+            DisplayPriority batchPriority = null;
             for (Poi poi : poisToRender) {
+                if (poi.getDisplayPriority() != batchPriority) {
+                    iconBatch.flush();
+                    batchPriority = poi.getDisplayPriority();
+                }
+
                 float dX = (poi.getLocation().getX() - (float) playerX) / scale;
                 float dZ = (poi.getLocation().getZ() - (float) playerZ) / scale;
 
@@ -262,10 +276,16 @@ public class MinimapFeature extends UserFeature {
                 BoundingBox box = BoundingBox.centered(
                         poi.getLocation().getX(), poi.getLocation().getZ(), (int) poiWidth, (int) poiHeight);
 
-                if (box.intersects(textureBoundingBox)) {
+                if (!box.intersects(textureBoundingBox)) continue;
+
+                if (poi instanceof IconPoi iconPoi) {
+                    iconPoi.renderAt(iconBatch, poseStack, poiRenderX, poiRenderZ, poiScale, currentZoom);
+                } else {
+                    iconBatch.flush();
                     poi.renderAt(poseStack, poiRenderX, poiRenderZ, false, poiScale, currentZoom);
                 }
             }
+            iconBatch.flush();
 
             // Compass icon
             Optional<WaypointPoi> compassOpt = Models.Compass.getCompassWaypoint();
@@ -17,6 +17,7 @@ import com.wynntils.core.features.overlays.sizes.GuiScaledOverlaySize;
 import com.wynntils.core.features.properties.FeatureCategory;
 import com.wynntils.core.features.properties.FeatureInfo;
 import com.wynntils.core.functions.Function;
+import com.wynntils.core.functions.LegacyTemplate;
 import com.wynntils.gui.render.FontRenderer;
 import com.wynntils.gui.render.HorizontalAlignment;
 import com.wynntils.gui.render.VerticalAlignment;
@@ -59,6 +60,8 @@ public class InfoBoxFeature extends UserFeature {
             0);
 
     public static class InfoBoxOverlay extends Overlay {
+        private static final String PREVIEW_CONTENT = "&cX: %x%, &9Y: %y%, &aZ: %z%";
+
         @Config
         public FontRenderer.TextShadow textShadow = FontRenderer.TextShadow.OUTLINE;
 
@@ -70,6 +73,8 @@ public class InfoBoxFeature extends UserFeature {
 
         private final int id;
         private final List<Function<?>> functionDependencies = new ArrayList<>();
+        private LegacyTemplate template;
+        private LegacyTemplate previewTemplate;
         private String[] cachedLines;
         private long lastUpdate = 0;
 
@@ -106,7 +111,7 @@ public class InfoBoxFeature extends UserFeature {
 
             if (System.nanoTime() - lastUpdate > secondsPerRecalculation * 1e+9) {
                 lastUpdate = System.nanoTime();
-                cachedLines = Managers.Function.getLinesFromLegacyTemplate(content);
+                cachedLines = getTemplate().getLines();
             }
 
             float renderX = this.getRenderX();
@@ -139,7 +144,10 @@ public class InfoBoxFeature extends UserFeature {
 
             String[] renderedLines;
             if (content.isEmpty()) {
-                renderedLines = Managers.Function.getLinesFromLegacyTemplate("&cX: %x%, &9Y: %y%, &aZ: %z%");
+                if (previewTemplate == null) {
+                    previewTemplate = Managers.Function.compileLegacyTemplate(PREVIEW_CONTENT);
+                }
+                renderedLines = previewTemplate.getLines();
             } else {
                 renderedLines = cachedLines;
             }
@@ -173,11 +181,20 @@ public class InfoBoxFeature extends UserFeature {
 
             functionDependencies.clear();
 
-            for (Function<?> function : Managers.Function.getDependenciesFromStringLegacy(content)) {
+            template = Managers.Function.compileLegacyTemplate(content);
+            for (Function<?> function : template.getDependencies()) {
                 Managers.Function.enableFunction(function);
             }
         }
 
+        private LegacyTemplate getTemplate() {
+            // The content is normally compiled on config update, but it can also be set without one
+            if (template == null || !template.getSource().equals(content)) {
+                template = Managers.Function.compileLegacyTemplate(content);
+            }
+            return template;
+        }
+
         @Override
         public String getTranslatedName() {
             return I18n.get(
@@ -32,12 +32,12 @@ import com.wynntils.mc.objects.CommonColors;
 import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.utils.MathUtils;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
 import com.wynntils.wynn.event.WorldStateEvent;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
@@ -51,7 +51,6 @@ import org.lwjgl.glfw.GLFW;
 public class NpcDialogueOverlayFeature extends UserFeature {
     private static final Pattern NEW_QUEST_STARTED = Pattern.compile("^§r§6§lNew Quest Started: §r§e§l(.*)§r$");
 
-    private final ScheduledExecutorService autoProgressExecutor = Executors.newSingleThreadScheduledExecutor();
     private ScheduledFuture<?> scheduledAutoProgressKeyPress = null;
 
     private List<String> currentDialogue = List.of();
@@ -75,7 +74,7 @@ public class NpcDialogueOverlayFeature extends UserFeature {
     private void cancelAutoProgress() {
         if (scheduledAutoProgressKeyPress == null) return;
 
-        scheduledAutoProgressKeyPress.cancel(true);
+        scheduledAutoProgressKeyPress.cancel(false);
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
@@ -105,7 +104,7 @@ public class NpcDialogueOverlayFeature extends UserFeature {
         }
 
         if (scheduledAutoProgressKeyPress != null) {
-            scheduledAutoProgressKeyPress.cancel(true);
+            scheduledAutoProgressKeyPress.cancel(false);
 
             // Release sneak key if currently pressed
             McUtils.sendPacket(new ServerboundPlayerCommandPacket(
@@ -125,11 +124,11 @@ public class NpcDialogueOverlayFeature extends UserFeature {
     private ScheduledFuture<?> scheduledSneakPress(List<String> msg) {
         long delay = calculateMessageReadTime(msg);
 
-        return autoProgressExecutor.schedule(
+        return TaskUtils.runLater(
+                TaskLane.TIMERS,
                 () -> McUtils.sendPacket(new ServerboundPlayerCommandPacket(
                         McUtils.player(), ServerboundPlayerCommandPacket.Action.PRESS_SHIFT_KEY)),
-                delay,
-                TimeUnit.MILLISECONDS);
+                delay);
     }
 
     private long calculateMessageReadTime(List<String> msg) {
@@ -5,15 +5,20 @@
 package com.wynntils.features.user.redirects;
 
 import com.wynntils.core.config.Config;
+import com.wynntils.core.config.ConfigHolder;
 import com.wynntils.core.features.UserFeature;
 import com.wynntils.core.features.properties.FeatureInfo;
 import com.wynntils.core.notifications.NotificationManager;
 import com.wynntils.handlers.chat.MessageType;
 import com.wynntils.handlers.chat.RecipientType;
 import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
+import com.wynntils.utils.KeywordMatcher;
 import com.wynntils.wynn.utils.WynnPlayerUtils;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.minecraft.ChatFormatting;
@@ -71,6 +76,9 @@ public class ChatRedirectFeature extends UserFeature {
 
     private final List<Redirector> redirectors = new ArrayList<>();
 
+    // Built lazily from the redirectors that are not set to KEEP, dropped whenever a config changes
+    private volatile Map<MessageType, RedirectorDispatch> dispatches = null;
+
     public ChatRedirectFeature() {
         register(new CraftedDurabilityRedirector());
         register(new FriendJoinRedirector());
@@ -109,21 +117,23 @@ public class ChatRedirectFeature extends UserFeature {
         redirectors.add(redirector);
     }
 
+    @Override
+    protected void onConfigUpdate(ConfigHolder configHolder) {
+        dispatches = null;
+    }
+
     @SubscribeEvent
     public void onChatMessage(ChatMessageReceivedEvent e) {
         if (e.getRecipientType() != RecipientType.INFO) return;
 
         String message = e.getOriginalCodedMessage();
-        MessageType messageType = e.getMessageType();
-
-        for (Redirector redirector : redirectors) {
-            RedirectAction action = redirector.getAction();
-            if (action == RedirectAction.KEEP) continue;
-
-            Pattern pattern = redirector.getPattern(messageType);
-            if (pattern == null) continue;
+        RedirectorDispatch dispatch = getDispatches().get(e.getMessageType());
 
-            Matcher matcher = pattern.matcher(message);
+        // Candidates are visited in registration order, so notifications are queued in the same order as before
+        BitSet candidates = dispatch.keywordMatcher().match(message);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Redirector redirector = dispatch.redirectors().get(i);
+            Matcher matcher = dispatch.patterns().get(i).matcher(message);
 
             if (matcher.find()) {
                 e.setCanceled(true);
@@ -136,6 +146,45 @@ public class ChatRedirectFeature extends UserFeature {
         }
     }
 
+    private Map<MessageType, RedirectorDispatch> getDispatches() {
+        Map<MessageType, RedirectorDispatch> current = dispatches;
+        if (current != null) return current;
+
+        current = new EnumMap<>(MessageType.class);
+        for (MessageType messageType : MessageType.values()) {
+            current.put(messageType, RedirectorDispatch.build(redirectors, messageType));
+        }
+
+        dispatches = current;
+        return current;
+    }
+
+    /**
+     * The active redirectors for one {@link MessageType}, indexed by a literal each of their patterns requires, so
+     * only the few patterns that can possibly match a message are run against it.
+     */
+    private record RedirectorDispatch(
+            List<Redirector> redirectors, List<Pattern> patterns, KeywordMatcher keywordMatcher) {
+        private static RedirectorDispatch build(List<Redirector> allRedirectors, MessageType messageType) {
+            List<Redirector> redirectors = new ArrayList<>();
+            List<Pattern> patterns = new ArrayList<>();
+            List<String> keywords = new ArrayList<>();
+
+            for (Redirector redirector : allRedirectors) {
+                if (redirector.getAction() == RedirectAction.KEEP) continue;
+
+                Pattern pattern = redirector.getPattern(messageType);
+                if (pattern == null) continue;
+
+                redirectors.add(redirector);
+                patterns.add(pattern);
+                keywords.add(KeywordMatcher.getRequiredLiteral(pattern));
+            }
+
+            return new RedirectorDispatch(redirectors, patterns, new KeywordMatcher(keywords));
+        }
+    }
+
     public enum RedirectAction {
         KEEP,
         HIDE,
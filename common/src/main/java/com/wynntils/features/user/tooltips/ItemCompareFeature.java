@@ -5,6 +5,7 @@
 package com.wynntils.features.user.tooltips;
 
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.features.UserFeature;
@@ -12,10 +13,10 @@ import com.wynntils.core.features.properties.FeatureCategory;
 import com.wynntils.core.features.properties.FeatureInfo;
 import com.wynntils.core.features.properties.RegisterKeyBind;
 import com.wynntils.core.keybinds.KeyBind;
-import com.wynntils.gui.render.RenderUtils;
+import com.wynntils.gui.render.decorations.SlotDecorations;
+import com.wynntils.gui.render.decorations.SlotDecorator;
 import com.wynntils.mc.event.ItemTooltipRenderEvent;
 import com.wynntils.mc.event.ScreenClosedEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
 import com.wynntils.mc.objects.CommonColors;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.wynn.event.WorldStateEvent;
@@ -29,7 +30,7 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.lwjgl.glfw.GLFW;
 
 @FeatureInfo(stability = FeatureInfo.Stability.STABLE, category = FeatureCategory.TOOLTIPS)
-public class ItemCompareFeature extends UserFeature {
+public class ItemCompareFeature extends UserFeature implements SlotDecorator {
     @RegisterKeyBind
     private final KeyBind toggleCompareModeKeyBind =
             new KeyBind("Compare mode", GLFW.GLFW_KEY_KP_EQUAL, true, null, this::onCompareModeKeyPress);
@@ -46,17 +47,29 @@ public class ItemCompareFeature extends UserFeature {
         return List.of(Models.GearItemStack);
     }
 
+    @Override
+    protected boolean onEnable() {
+        Managers.SlotDecoration.registerDecorator(this);
+        return true;
+    }
+
+    @Override
+    protected void onDisable() {
+        Managers.SlotDecoration.unregisterDecorator(this);
+    }
+
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
         comparedItem = null;
         compareToEquipped = false;
     }
 
-    @SubscribeEvent
-    public void onRenderSlot(SlotRenderEvent.Pre event) {
-        Slot slot = event.getSlot();
-        if (slot.getItem() == comparedItem) {
-            RenderUtils.drawArc(CommonColors.LIGHT_BLUE, slot.x, slot.y, 200, 1, 6, 8);
+    @Override
+    public void decorateBackground(SlotDecorations decorations, ItemStack item, int slotX, int slotY, boolean hotbar) {
+        if (hotbar) return;
+
+        if (item == comparedItem) {
+            decorations.drawArc(CommonColors.LIGHT_BLUE, slotX, slotY, 200, 1, 6, 8);
         }
     }
 
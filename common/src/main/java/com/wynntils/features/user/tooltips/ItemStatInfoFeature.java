@@ -7,6 +7,7 @@ package com.wynntils.features.user.tooltips;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.config.Config;
+import com.wynntils.core.config.ConfigHolder;
 import com.wynntils.core.features.UserFeature;
 import com.wynntils.core.features.properties.FeatureCategory;
 import com.wynntils.core.features.properties.FeatureInfo;
@@ -44,6 +45,18 @@ public class ItemStatInfoFeature extends UserFeature {
     @Config
     public boolean groupIdentifications = true;
 
+    // Bumped on every config change, so item stacks know when their built tooltips are outdated
+    private int configGeneration = 0;
+
+    public int getConfigGeneration() {
+        return configGeneration;
+    }
+
+    @Override
+    protected void onConfigUpdate(ConfigHolder configHolder) {
+        configGeneration++;
+    }
+
     @Override
     public List<Model> getModelDependencies() {
         return List.of(Models.GearItemStack);
@@ -0,0 +1,41 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.gui.render;
+
+/**
+ * Counts the draw calls made through {@link RenderUtils} and {@link RenderBatch}, so the effect of batching can be
+ * seen on the debug overlay. Only accessed on the render thread.
+ */
+public final class DrawCallCounter {
+    private static int drawCalls = 0;
+    private static int batchedQuads = 0;
+
+    private static int lastFrameDrawCalls = 0;
+    private static int lastFrameBatchedQuads = 0;
+
+    static void count() {
+        drawCalls++;
+    }
+
+    static void countBatchedQuads(int quads) {
+        batchedQuads += quads;
+    }
+
+    /** Ends the current frame, called once per frame before anything is drawn */
+    public static void nextFrame() {
+        lastFrameDrawCalls = drawCalls;
+        lastFrameBatchedQuads = batchedQuads;
+        drawCalls = 0;
+        batchedQuads = 0;
+    }
+
+    public static int getLastFrameDrawCalls() {
+        return lastFrameDrawCalls;
+    }
+
+    public static int getLastFrameBatchedQuads() {
+        return lastFrameBatchedQuads;
+    }
+}
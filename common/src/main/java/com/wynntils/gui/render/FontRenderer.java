@@ -10,8 +10,12 @@ import com.wynntils.mc.objects.CommonColors;
 import com.wynntils.mc.objects.CustomColor;
 import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.mc.utils.McUtils;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import net.minecraft.client.gui.Font;
+import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.network.chat.FormattedText;
 import net.minecraft.network.chat.Style;
 
@@ -21,6 +25,19 @@ public final class FontRenderer {
 
     private static final int NEWLINE_OFFSET = 10;
     private static final CustomColor SHADOW_COLOR = CommonColors.BLACK;
+    private static final int FULL_BRIGHT = 0xf000f0;
+
+    // Overlays mostly render the same text every frame, so splitting and measuring it is only done once
+    private static final int LAYOUT_CACHE_SIZE = 512;
+
+    private final Map<LayoutKey, TextLayout> layoutCache = new LinkedHashMap<>(LAYOUT_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LayoutKey, TextLayout> eldest) {
+            return size() > LAYOUT_CACHE_SIZE;
+        }
+    };
+    private long layoutCacheHits = 0;
+    private long layoutCacheMisses = 0;
 
     private FontRenderer() {
         this.font = ((MinecraftAccessor) McUtils.mc()).getFont();
@@ -44,17 +61,43 @@ public final class FontRenderer {
             VerticalAlignment verticalAlignment,
             TextShadow shadow,
             float textScale) {
+        if (text == null) return;
+
+        renderLine(
+                poseStack,
+                null,
+                getLayout(text, 0),
+                x,
+                y,
+                customColor,
+                horizontalAlignment,
+                verticalAlignment,
+                shadow,
+                textScale);
+    }
+
+    private void renderLine(
+            PoseStack poseStack,
+            MultiBufferSource bufferSource,
+            TextLayout line,
+            float x,
+            float y,
+            CustomColor customColor,
+            HorizontalAlignment horizontalAlignment,
+            VerticalAlignment verticalAlignment,
+            TextShadow shadow,
+            float textScale) {
         float renderX;
         float renderY;
 
-        if (text == null) return;
+        String text = line.getText();
 
         // TODO: Add rainbow color support
 
         renderX = switch (horizontalAlignment) {
             case Left -> x;
-            case Center -> x - (font.width(text) / 2f * textScale);
-            case Right -> x - font.width(text) * textScale;};
+            case Center -> x - (line.getWidth(font) / 2f * textScale);
+            case Right -> x - line.getWidth(font) * textScale;};
 
         renderY = switch (verticalAlignment) {
             case Top -> y;
@@ -68,23 +111,44 @@ public final class FontRenderer {
         switch (shadow) {
             case OUTLINE -> {
                 int shadowColor = SHADOW_COLOR.withAlpha(customColor.a).asInt();
-                String strippedText = ComponentUtils.stripColorFormatting(text);
+                String strippedText = line.getStrippedText();
 
                 // draw outline behind text
-                font.draw(poseStack, strippedText, 1, 0, shadowColor);
-                font.draw(poseStack, strippedText, -1, 0, shadowColor);
-                font.draw(poseStack, strippedText, 0, 1, shadowColor);
-                font.draw(poseStack, strippedText, 0, -1, shadowColor);
+                drawString(poseStack, bufferSource, strippedText, 1, 0, shadowColor, false);
+                drawString(poseStack, bufferSource, strippedText, -1, 0, shadowColor, false);
+                drawString(poseStack, bufferSource, strippedText, 0, 1, shadowColor, false);
+                drawString(poseStack, bufferSource, strippedText, 0, -1, shadowColor, false);
 
-                font.draw(poseStack, text, 0, 0, customColor.asInt());
+                drawString(poseStack, bufferSource, text, 0, 0, customColor.asInt(), false);
             }
-            case NORMAL -> font.drawShadow(poseStack, text, 0, 0, customColor.asInt());
-            default -> font.draw(poseStack, text, 0, 0, customColor.asInt());
+            case NORMAL -> drawString(poseStack, bufferSource, text, 0, 0, customColor.asInt(), true);
+            default -> drawString(poseStack, bufferSource, text, 0, 0, customColor.asInt(), false);
         }
 
         poseStack.popPose();
     }
 
+    private void drawString(
+            PoseStack poseStack,
+            MultiBufferSource bufferSource,
+            String text,
+            float x,
+            float y,
+            int color,
+            boolean dropShadow) {
+        if (bufferSource == null) {
+            if (dropShadow) {
+                font.drawShadow(poseStack, text, x, y, color);
+            } else {
+                font.draw(poseStack, text, x, y, color);
+            }
+            return;
+        }
+
+        font.drawInBatch(
+                text, x, y, color, dropShadow, poseStack.last().pose(), bufferSource, false, 0, FULL_BRIGHT);
+    }
+
     public void renderText(
             PoseStack poseStack,
             String text,
@@ -226,30 +290,63 @@ public final class FontRenderer {
             VerticalAlignment verticalAlignment,
             TextShadow shadow,
             float textScale) {
+        renderWrappedText(
+                poseStack,
+                null,
+                text,
+                x,
+                y,
+                maxWidth,
+                customColor,
+                horizontalAlignment,
+                verticalAlignment,
+                shadow,
+                textScale);
+    }
+
+    private void renderWrappedText(
+            PoseStack poseStack,
+            MultiBufferSource bufferSource,
+            String text,
+            float x,
+            float y,
+            float maxWidth,
+            CustomColor customColor,
+            HorizontalAlignment horizontalAlignment,
+            VerticalAlignment verticalAlignment,
+            TextShadow shadow,
+            float textScale) {
         if (text == null) return;
 
-        if (maxWidth == 0 || font.width(text) < maxWidth) {
-            renderText(poseStack, text, x, y, customColor, horizontalAlignment, verticalAlignment, shadow, textScale);
+        TextLayout layout = getLayout(text, maxWidth);
+        if (maxWidth == 0 || layout.getWidth(font) < maxWidth) {
+            renderLine(
+                    poseStack,
+                    bufferSource,
+                    layout,
+                    x,
+                    y,
+                    customColor,
+                    horizontalAlignment,
+                    verticalAlignment,
+                    shadow,
+                    textScale);
             return;
         }
 
-        List<FormattedText> parts = font.getSplitter().splitLines(text, (int) maxWidth, Style.EMPTY);
-
-        String lastPart = "";
+        List<TextLayout> parts = layout.getLines(font);
         for (int i = 0; i < parts.size(); i++) {
-            // copy the format codes to this part as well
-            String part =
-                    ComponentUtils.getLastPartCodes(lastPart) + parts.get(i).getString();
-            lastPart = part;
-            renderText(
+            renderLine(
                     poseStack,
-                    part,
+                    bufferSource,
+                    parts.get(i),
                     x,
                     y + (i * font.lineHeight),
                     customColor,
                     horizontalAlignment,
                     verticalAlignment,
-                    shadow);
+                    shadow,
+                    1f);
         }
     }
 
@@ -279,6 +376,26 @@ public final class FontRenderer {
                 line.getSetting().shadow());
     }
 
+    /**
+     * Only adds the text to the buffer source, instead of drawing it right away. This way many texts can be drawn
+     * together by a single {@link MultiBufferSource.BufferSource#endBatch()}.
+     */
+    public void renderTextInBatch(
+            PoseStack poseStack, MultiBufferSource bufferSource, float x, float y, TextRenderTask line) {
+        renderWrappedText(
+                poseStack,
+                bufferSource,
+                line.getText(),
+                x,
+                y,
+                line.getSetting().maxWidth(),
+                line.getSetting().customColor(),
+                line.getSetting().horizontalAlignment(),
+                line.getSetting().verticalAlignment(),
+                line.getSetting().shadow(),
+                1f);
+    }
+
     public void renderTexts(PoseStack poseStack, float x, float y, List<TextRenderTask> lines) {
         float currentY = y;
         for (TextRenderTask line : lines) {
@@ -341,8 +458,8 @@ public final class FontRenderer {
             if (textRenderTask.getSetting().maxWidth() == 0) {
                 height += font.lineHeight;
             } else {
-                height += font.wordWrapHeight(textRenderTask.getText(), (int)
-                        textRenderTask.getSetting().maxWidth());
+                height += calculateRenderHeight(
+                        textRenderTask.getText(), textRenderTask.getSetting().maxWidth());
             }
             totalLineCount++;
         }
@@ -356,13 +473,111 @@ public final class FontRenderer {
     public float calculateRenderHeight(List<String> lines, float maxWidth) {
         int sum = 0;
         for (String line : lines) {
-            sum += font.wordWrapHeight(line, (int) maxWidth);
+            sum += calculateRenderHeight(line, maxWidth);
         }
         return sum;
     }
 
     public float calculateRenderHeight(String line, float maxWidth) {
-        return font.wordWrapHeight(line, (int) maxWidth);
+        // Same as Font#wordWrapHeight, but reusing the split lines
+        return getLayout(line, maxWidth).getLines(font).size() * font.lineHeight;
+    }
+
+    public long getLayoutCacheHits() {
+        synchronized (layoutCache) {
+            return layoutCacheHits;
+        }
+    }
+
+    public long getLayoutCacheMisses() {
+        synchronized (layoutCache) {
+            return layoutCacheMisses;
+        }
+    }
+
+    public int getLayoutCacheSize() {
+        synchronized (layoutCache) {
+            return layoutCache.size();
+        }
+    }
+
+    /** Drops all cached layouts, which have to be recalculated after the font has changed */
+    public void clearLayoutCache() {
+        synchronized (layoutCache) {
+            layoutCache.clear();
+        }
+    }
+
+    private TextLayout getLayout(String text, float maxWidth) {
+        LayoutKey key = new LayoutKey(text, maxWidth);
+        synchronized (layoutCache) {
+            TextLayout layout = layoutCache.get(key);
+            if (layout != null) {
+                layoutCacheHits++;
+                return layout;
+            }
+
+            layoutCacheMisses++;
+            layout = new TextLayout(text, maxWidth);
+            layoutCache.put(key, layout);
+            return layout;
+        }
+    }
+
+    private record LayoutKey(String text, float maxWidth) {}
+
+    /**
+     * The measured and split up form of a text, computed the first time it is needed. The shadow does not change the
+     * layout, so it is shared between all shadow types.
+     */
+    private static final class TextLayout {
+        private final String text;
+        private final float maxWidth;
+
+        private int width = -1;
+        private String strippedText;
+        private List<TextLayout> lines;
+
+        private TextLayout(String text, float maxWidth) {
+            this.text = text;
+            this.maxWidth = maxWidth;
+        }
+
+        private String getText() {
+            return text;
+        }
+
+        private int getWidth(Font font) {
+            if (width < 0) {
+                width = font.width(text);
+            }
+            return width;
+        }
+
+        private String getStrippedText() {
+            if (strippedText == null) {
+                strippedText = ComponentUtils.stripColorFormatting(text);
+            }
+            return strippedText;
+        }
+
+        private List<TextLayout> getLines(Font font) {
+            if (lines == null) {
+                List<FormattedText> parts = font.getSplitter().splitLines(text, (int) maxWidth, Style.EMPTY);
+                List<TextLayout> splitLines = new ArrayList<>(parts.size());
+
+                String lastPart = "";
+                for (FormattedText formattedPart : parts) {
+                    // copy the format codes to this part as well
+                    String part = ComponentUtils.getLastPartCodes(lastPart) + formattedPart.getString();
+                    lastPart = part;
+                    splitLines.add(new TextLayout(part, 0));
+                }
+
+                lines = splitLines;
+            }
+            return lines;
+        }
     }
 
     public enum TextShadow {
@@ -6,7 +6,6 @@ package com.wynntils.gui.render;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.BufferBuilder;
-import com.mojang.blaze3d.vertex.BufferUploader;
 import com.mojang.blaze3d.vertex.DefaultVertexFormat;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.Tesselator;
@@ -14,16 +13,34 @@ import com.mojang.blaze3d.vertex.VertexFormat;
 import com.wynntils.features.user.map.PointerType;
 import com.wynntils.mc.objects.CustomColor;
 import com.wynntils.mc.utils.McUtils;
+import com.wynntils.utils.BoundingBox;
 import com.wynntils.wynn.model.map.MapTexture;
 import com.wynntils.wynn.model.map.poi.Poi;
 import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.resources.ResourceLocation;
 import org.joml.Matrix4f;
 import org.lwjgl.opengl.GL11;
-import org.lwjgl.opengl.GL13;
+import org.lwjgl.opengl.GL12;
 
 public final class MapRenderer {
+    // Upper bound for the unscaled on-screen size of any static poi, such as long labels
+    private static final float MAX_STATIC_POI_SIZE = 256f;
+
     public static Poi hovered = null;
 
+    /**
+     * Static pois are indexed by location only, so the box has to be grown by half of the largest
+     * rendered poi to also find pois that are centered outside the box, but still overlap it.
+     */
+    public static BoundingBox getPoiQueryBox(BoundingBox textureBoundingBox, float poiScale) {
+        float margin = MAX_STATIC_POI_SIZE * poiScale / 2f;
+        return new BoundingBox(
+                textureBoundingBox.x1 - margin,
+                textureBoundingBox.z1 - margin,
+                textureBoundingBox.x2 + margin,
+                textureBoundingBox.z2 + margin);
+    }
+
     public static void renderMapQuad(
             MapTexture map,
             PoseStack poseStack,
@@ -35,6 +52,21 @@ public final class MapRenderer {
             float height,
             float scale,
             boolean renderUsingLinear) {
+        float halfTextureWidth = width / 2f * scale;
+        float halfTextureHeight = height / 2f * scale;
+
+        // Only draw the part of the view this tile covers, so a zoomed out map doesn't draw every tile over the
+        // whole view, and no tile is sampled outside of its own texture
+        float textureX1 = Math.max(0, textureX - halfTextureWidth);
+        float textureZ1 = Math.max(0, textureZ - halfTextureHeight);
+        float textureX2 = Math.min(map.getTextureWidth(), textureX + halfTextureWidth);
+        float textureZ2 = Math.min(map.getTextureHeight(), textureZ + halfTextureHeight);
+        if (textureX1 >= textureX2 || textureZ1 >= textureZ2) return;
+
+        // Tiles are loaded in the background, and just left out until they are ready
+        ResourceLocation resource = map.resource();
+        if (resource == null) return;
+
         RenderSystem.disableBlend();
 
         // has to be before setting shader texture
@@ -43,42 +75,30 @@ public final class MapRenderer {
         RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, option);
 
         RenderSystem.setShader(GameRenderer::getPositionTexShader);
-        RenderSystem.setShaderTexture(0, map.resource());
+        RenderSystem.setShaderTexture(0, resource);
 
-        // clamp map rendering
+        // Linear filtering at the tile edges must not blend with a border color, or the tiles would have seams
         // has to be after setting shader texture
-        RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL13.GL_CLAMP_TO_BORDER);
-        RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL13.GL_CLAMP_TO_BORDER);
+        RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL12.GL_CLAMP_TO_EDGE);
+        RenderSystem.texParameter(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL12.GL_CLAMP_TO_EDGE);
 
         float uScale = 1f / map.getTextureWidth();
         float vScale = 1f / map.getTextureHeight();
 
-        float halfRenderedWidth = width / 2f;
-        float halfRenderedHeight = height / 2f;
-        float halfTextureWidth = halfRenderedWidth * scale;
-        float halfTextureHeight = halfRenderedHeight * scale;
+        float renderX1 = centerX + (textureX1 - textureX) / scale;
+        float renderZ1 = centerZ + (textureZ1 - textureZ) / scale;
+        float renderX2 = centerX + (textureX2 - textureX) / scale;
+        float renderZ2 = centerZ + (textureZ2 - textureZ) / scale;
 
         Matrix4f matrix = poseStack.last().pose();
 
         BufferBuilder bufferBuilder = Tesselator.getInstance().getBuilder();
         bufferBuilder.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
-        bufferBuilder
-                .vertex(matrix, (centerX - halfRenderedWidth), (centerZ + halfRenderedHeight), 0)
-                .uv((textureX - halfTextureWidth) * uScale, (textureZ + halfTextureHeight) * vScale)
-                .endVertex();
-        bufferBuilder
-                .vertex(matrix, (centerX + halfRenderedWidth), (centerZ + halfRenderedHeight), 0)
-                .uv((textureX + halfTextureWidth) * uScale, (textureZ + halfTextureHeight) * vScale)
-                .endVertex();
-        bufferBuilder
-                .vertex(matrix, (centerX + halfRenderedWidth), (centerZ - halfRenderedHeight), 0)
-                .uv((textureX + halfTextureWidth) * uScale, (textureZ - halfTextureHeight) * vScale)
-                .endVertex();
-        bufferBuilder
-                .vertex(matrix, (centerX - halfRenderedWidth), (centerZ - halfRenderedHeight), 0)
-                .uv((textureX - halfTextureWidth) * uScale, (textureZ - halfTextureHeight) * vScale)
-                .endVertex();
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        bufferBuilder.vertex(matrix, renderX1, renderZ2, 0).uv(textureX1 * uScale, textureZ2 * vScale).endVertex();
+        bufferBuilder.vertex(matrix, renderX2, renderZ2, 0).uv(textureX2 * uScale, textureZ2 * vScale).endVertex();
+        bufferBuilder.vertex(matrix, renderX2, renderZ1, 0).uv(textureX2 * uScale, textureZ1 * vScale).endVertex();
+        bufferBuilder.vertex(matrix, renderX1, renderZ1, 0).uv(textureX1 * uScale, textureZ1 * vScale).endVertex();
+        RenderUtils.drawBuffer(bufferBuilder);
     }
 
     public static void renderCursor(
@@ -0,0 +1,332 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.gui.render;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexFormat;
+import com.wynntils.mc.objects.CustomColor;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.client.renderer.ShaderInstance;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * Collects quads, lines and arcs drawn with the same shader and texture, and draws each group with a single draw call
+ * on {@link #flush()}, instead of one draw call per primitive like {@link RenderUtils}.
+ *
+ * <p>Groups are drawn in the order they were first used, so primitives from different groups can end up in a
+ * different order than they were added in. Only batch primitives that don't overlap, or where the order of the
+ * groups does not matter, and flush before drawing anything that should be on top of the batch. Everything in a
+ * batch is drawn with the default blending enabled.
+ *
+ * <p>Positions are transformed when they are added, so the pose stack can change freely between calls.
+ */
+public final class RenderBatch {
+    // x, y, z, u, v, r, g, b, a
+    private static final int VERTEX_SIZE = 9;
+
+    private final Map<GroupKey, VertexList> groups = new LinkedHashMap<>();
+    private final Vector3f transformed = new Vector3f();
+
+    public void drawRect(
+            PoseStack poseStack, CustomColor color, float x, float y, float z, float width, float height) {
+        VertexList vertices = getGroup(BatchShader.POSITION_COLOR, null);
+        Matrix4f matrix = poseStack.last().pose();
+
+        addVertex(vertices, matrix, x, y + height, z, 0, 0, color);
+        addVertex(vertices, matrix, x + width, y + height, z, 0, 0, color);
+        addVertex(vertices, matrix, x + width, y, z, 0, 0, color);
+        addVertex(vertices, matrix, x, y, z, 0, 0, color);
+    }
+
+    /** Same as {@link RenderUtils#drawLine}, but as a quad so it can share a draw call */
+    public void drawLine(
+            PoseStack poseStack, CustomColor color, float x1, float y1, float x2, float y2, float z, float width) {
+        VertexList vertices = getGroup(BatchShader.POSITION_COLOR, null);
+        Matrix4f matrix = poseStack.last().pose();
+        float halfWidth = width / 2;
+
+        // Always go left to right (or top to bottom), so the quad is wound the same way as RenderUtils#drawRect
+        if (x1 > x2 || (x1 == x2 && y1 > y2)) {
+            float tmp = x1;
+            x1 = x2;
+            x2 = tmp;
+
+            tmp = y1;
+            y1 = y2;
+            y2 = tmp;
+        }
+
+        // Offsets of the corners on either side of the line, matching the corners of RenderUtils#drawLine
+        float offsetX1;
+        float offsetY1;
+        if (x1 == x2) {
+            offsetX1 = halfWidth;
+            offsetY1 = 0;
+        } else if (y1 == y2) {
+            offsetX1 = 0;
+            offsetY1 = -halfWidth;
+        } else if (y1 < y2) { // Top Left to Bottom Right line
+            offsetX1 = halfWidth;
+            offsetY1 = -halfWidth;
+        } else { // Bottom Left to Top Right line
+            offsetX1 = -halfWidth;
+            offsetY1 = -halfWidth;
+        }
+        float offsetX2 = -offsetX1;
+        float offsetY2 = -offsetY1;
+
+        addVertex(vertices, matrix, x1 + offsetX1, y1 + offsetY1, z, 0, 0, color);
+        addVertex(vertices, matrix, x1 + offsetX2, y1 + offsetY2, z, 0, 0, color);
+        addVertex(vertices, matrix, x2 + offsetX2, y2 + offsetY2, z, 0, 0, color);
+        addVertex(vertices, matrix, x2 + offsetX1, y2 + offsetY1, z, 0, 0, color);
+    }
+
+    /** Same as {@link RenderUtils#drawArc}, but as quads so it can share a draw call */
+    public void drawArc(
+            PoseStack poseStack,
+            CustomColor color,
+            float x,
+            float y,
+            float z,
+            float fill,
+            int innerRadius,
+            int outerRadius) {
+        VertexList vertices = getGroup(BatchShader.POSITION_COLOR, null);
+        Matrix4f matrix = poseStack.last().pose();
+
+        // keeps arc from overlapping itself
+        int segments = (int) Math.min(fill * RenderUtils.MAX_CIRCLE_STEPS, RenderUtils.MAX_CIRCLE_STEPS - 1);
+        float midX = x + outerRadius;
+        float midY = y + outerRadius;
+
+        float sinAngle = 0;
+        float cosAngle = 1;
+        for (int i = 1; i <= segments; i++) {
+            float angle = Mth.TWO_PI * i / (RenderUtils.MAX_CIRCLE_STEPS - 1f);
+            float nextSinAngle = Mth.sin(angle);
+            float nextCosAngle = Mth.cos(angle);
+
+            // One quad per segment, wound like the triangle strip of RenderUtils#drawArc
+            addVertex(vertices, matrix, midX + sinAngle * outerRadius, midY - cosAngle * outerRadius, z, 0, 0, color);
+            addVertex(vertices, matrix, midX + sinAngle * innerRadius, midY - cosAngle * innerRadius, z, 0, 0, color);
+            addVertex(
+                    vertices,
+                    matrix,
+                    midX + nextSinAngle * innerRadius,
+                    midY - nextCosAngle * innerRadius,
+                    z,
+                    0,
+                    0,
+                    color);
+            addVertex(
+                    vertices,
+                    matrix,
+                    midX + nextSinAngle * outerRadius,
+                    midY - nextCosAngle * outerRadius,
+                    z,
+                    0,
+                    0,
+                    color);
+
+            sinAngle = nextSinAngle;
+            cosAngle = nextCosAngle;
+        }
+    }
+
+    public void drawTexturedRect(
+            PoseStack poseStack,
+            ResourceLocation tex,
+            float x,
+            float y,
+            float z,
+            float width,
+            float height,
+            int uOffset,
+            int vOffset,
+            int u,
+            int v,
+            int textureWidth,
+            int textureHeight) {
+        addTexturedRect(
+                getGroup(BatchShader.POSITION_TEX, tex),
+                poseStack,
+                CustomColor.NONE,
+                x,
+                y,
+                z,
+                width,
+                height,
+                uOffset,
+                vOffset,
+                u,
+                v,
+                textureWidth,
+                textureHeight);
+    }
+
+    public void drawTexturedRectWithColor(
+            PoseStack poseStack,
+            ResourceLocation tex,
+            CustomColor color,
+            float x,
+            float y,
+            float z,
+            float width,
+            float height,
+            int uOffset,
+            int vOffset,
+            int u,
+            int v,
+            int textureWidth,
+            int textureHeight) {
+        addTexturedRect(
+                getGroup(BatchShader.POSITION_TEX_COLOR, tex),
+                poseStack,
+                color,
+                x,
+                y,
+                z,
+                width,
+                height,
+                uOffset,
+                vOffset,
+                u,
+                v,
+                textureWidth,
+                textureHeight);
+    }
+
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+
+    /** Draws everything added since the last flush, one draw call per group */
+    public void flush() {
+        if (groups.isEmpty()) return;
+
+        RenderSystem.enableBlend();
+        RenderSystem.defaultBlendFunc();
+
+        BufferBuilder bufferBuilder = Tesselator.getInstance().getBuilder();
+        for (Map.Entry<GroupKey, VertexList> entry : groups.entrySet()) {
+            BatchShader shader = entry.getKey().shader();
+            VertexList vertices = entry.getValue();
+
+            RenderSystem.setShader(shader.shaderSupplier);
+            if (entry.getKey().texture() != null) {
+                RenderSystem.setShaderTexture(0, entry.getKey().texture());
+            }
+
+            bufferBuilder.begin(VertexFormat.Mode.QUADS, shader.format);
+            float[] data = vertices.data;
+            for (int i = 0; i < vertices.size; i += VERTEX_SIZE) {
+                bufferBuilder.vertex(data[i], data[i + 1], data[i + 2]);
+                if (shader.textured) {
+                    bufferBuilder.uv(data[i + 3], data[i + 4]);
+                }
+                if (shader.colored) {
+                    bufferBuilder.color((int) data[i + 5], (int) data[i + 6], (int) data[i + 7], (int) data[i + 8]);
+                }
+                bufferBuilder.endVertex();
+            }
+
+            RenderUtils.drawBuffer(bufferBuilder);
+            DrawCallCounter.countBatchedQuads(vertices.size / VERTEX_SIZE / 4);
+        }
+
+        RenderSystem.disableBlend();
+        groups.clear();
+    }
+
+    private void addTexturedRect(
+            VertexList vertices,
+            PoseStack poseStack,
+            CustomColor color,
+            float x,
+            float y,
+            float z,
+            float width,
+            float height,
+            int uOffset,
+            int vOffset,
+            int u,
+            int v,
+            int textureWidth,
+            int textureHeight) {
+        float uScale = 1f / textureWidth;
+        float vScale = 1f / textureHeight;
+        Matrix4f matrix = poseStack.last().pose();
+
+        addVertex(vertices, matrix, x, y + height, z, uOffset * uScale, (vOffset + v) * vScale, color);
+        addVertex(
+                vertices, matrix, x + width, y + height, z, (uOffset + u) * uScale, (vOffset + v) * vScale, color);
+        addVertex(vertices, matrix, x + width, y, z, (uOffset + u) * uScale, vOffset * vScale, color);
+        addVertex(vertices, matrix, x, y, z, uOffset * uScale, vOffset * vScale, color);
+    }
+
+    private VertexList getGroup(BatchShader shader, ResourceLocation texture) {
+        return groups.computeIfAbsent(new GroupKey(shader, texture), key -> new VertexList());
+    }
+
+    private void addVertex(
+            VertexList vertices, Matrix4f matrix, float x, float y, float z, float u, float v, CustomColor color) {
+        matrix.transformPosition(x, y, z, transformed);
+        vertices.add(transformed.x(), transformed.y(), transformed.z(), u, v, color);
+    }
+
+    private enum BatchShader {
+        POSITION_COLOR(DefaultVertexFormat.POSITION_COLOR, GameRenderer::getPositionColorShader, false, true),
+        POSITION_TEX(DefaultVertexFormat.POSITION_TEX, GameRenderer::getPositionTexShader, true, false),
+        POSITION_TEX_COLOR(
+                DefaultVertexFormat.POSITION_TEX_COLOR, GameRenderer::getPositionTexColorShader, true, true);
+
+        private final VertexFormat format;
+        private final Supplier<ShaderInstance> shaderSupplier;
+        private final boolean textured;
+        private final boolean colored;
+
+        BatchShader(
+                VertexFormat format, Supplier<ShaderInstance> shaderSupplier, boolean textured, boolean colored) {
+            this.format = format;
+            this.shaderSupplier = shaderSupplier;
+            this.textured = textured;
+            this.colored = colored;
+        }
+    }
+
+    private record GroupKey(BatchShader shader, ResourceLocation texture) {}
+
+    private static final class VertexList {
+        private float[] data = new float[VERTEX_SIZE * 4 * 16];
+        private int size = 0;
+
+        private void add(float x, float y, float z, float u, float v, CustomColor color) {
+            if (size + VERTEX_SIZE > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+
+            data[size++] = x;
+            data[size++] = y;
+            data[size++] = z;
+            data[size++] = u;
+            data[size++] = v;
+            data[size++] = color.r;
+            data[size++] = color.g;
+            data[size++] = color.b;
+            data[size++] = color.a;
+        }
+    }
+}
@@ -50,7 +50,7 @@ public final class RenderUtils {
     private static final CustomColor BORDER_END = CustomColor.fromInt(0xFF180033);
 
     // number of possible segments for arc drawing
-    private static final float MAX_CIRCLE_STEPS = 16f;
+    static final float MAX_CIRCLE_STEPS = 16f;
 
     // See https://github.com/MinecraftForge/MinecraftForge/issues/8083 as to why this uses TRIANGLE_STRIPS.
     // TLDR: New OpenGL only supports TRIANGLES and Minecraft patched QUADS to be usable ATM, but LINES patch is broken
@@ -170,7 +170,7 @@ public final class RenderUtils {
                     .endVertex();
         }
 
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
         RenderSystem.disableBlend();
     }
 
@@ -212,7 +212,7 @@ public final class RenderUtils {
                 .color(color.r, color.g, color.b, color.a)
                 .endVertex();
 
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
         RenderSystem.disableBlend();
     }
 
@@ -312,7 +312,7 @@ public final class RenderUtils {
                 .vertex(matrix, x, y, z)
                 .uv(uOffset * uScale, vOffset * vScale)
                 .endVertex();
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
     }
 
     public static void drawScalingTexturedRect(
@@ -402,7 +402,7 @@ public final class RenderUtils {
                 .uv(uOffset * uScale, vOffset * vScale)
                 .color(color.r, color.g, color.b, color.a)
                 .endVertex();
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
         RenderSystem.disableBlend();
     }
 
@@ -452,7 +452,7 @@ public final class RenderUtils {
                     .endVertex();
         }
 
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
         RenderSystem.disableBlend();
     }
 
@@ -629,7 +629,7 @@ public final class RenderUtils {
         RenderSystem.disableTexture();
         RenderSystem.enableBlend();
         RenderSystem.defaultBlendFunc();
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
         RenderSystem.disableBlend();
         RenderSystem.enableTexture();
 
@@ -825,7 +825,7 @@ public final class RenderUtils {
         bufferBuilder.vertex(matrix, xMin, yMax, 0).uv(txMin, tyMax).endVertex();
         bufferBuilder.vertex(matrix, xMax, yMax, 0).uv(txMax, tyMax).endVertex();
         bufferBuilder.vertex(matrix, xMax, yMin, 0).uv(txMax, tyMin).endVertex();
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
     }
 
     private static void drawProgressBarForegroundWithColor(
@@ -893,7 +893,7 @@ public final class RenderUtils {
                 .uv(txMax, tyMin)
                 .color(customColor.asInt())
                 .endVertex();
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
     }
 
     public static void drawProgressBarBackground(
@@ -927,7 +927,7 @@ public final class RenderUtils {
         bufferBuilder.vertex(matrix, xMin, yMax, 0).uv(txMin, tyMax).endVertex();
         bufferBuilder.vertex(matrix, xMax, yMax, 0).uv(txMax, tyMax).endVertex();
         bufferBuilder.vertex(matrix, xMax, yMin, 0).uv(txMax, tyMin).endVertex();
-        BufferUploader.drawWithShader(bufferBuilder.end());
+        drawBuffer(bufferBuilder);
     }
 
     public static void fillGradient(
@@ -1165,6 +1165,12 @@ public final class RenderUtils {
         RenderSystem.stencilFunc(GL11.GL_ALWAYS, 0, 0xFF);
     }
 
+    /** Draws the buffer with the current shader, counting the draw call for {@link DrawCallCounter} */
+    static void drawBuffer(BufferBuilder bufferBuilder) {
+        BufferUploader.drawWithShader(bufferBuilder.end());
+        DrawCallCounter.count();
+    }
+
     private static final class ClipboardImage implements Transferable {
         private final Image image;
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.gui.render.decorations;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Manager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
+import net.minecraft.world.entity.HumanoidArm;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.eventbus.api.EventPriority;
+
+/**
+ * Draws the decorations of all {@link SlotDecorator}s in one pass over all slots, instead of every feature drawing
+ * on its own for every slot.
+ *
+ * <p>Each decorator decorates all slots before the next one does, and its decorations are drawn together, so
+ * decorators still draw over each other in the order of their priority, like event listeners would.
+ *
+ * <p>The background of all slots is drawn before the first slot is rendered, and the foreground after the last
+ * one, so the result is the same as drawing around each slot.
+ */
+public final class SlotDecorationManager extends Manager {
+    // Only accessed on the render thread
+    private final List<SlotDecorator> decorators = new ArrayList<>();
+    private final Map<SlotDecorator, EventPriority> priorities = new HashMap<>();
+
+    private final SlotDecorations decorations = new SlotDecorations();
+
+    private final List<ItemStack> hotbarStacks = new ArrayList<>();
+    private int[] hotbarPositions = new int[20];
+
+    public SlotDecorationManager() {
+        super(List.of());
+    }
+
+    public void registerDecorator(SlotDecorator decorator) {
+        registerDecorator(decorator, EventPriority.NORMAL);
+    }
+
+    public void registerDecorator(SlotDecorator decorator, EventPriority priority) {
+        if (priorities.containsKey(decorator)) return;
+
+        // Keep the decorators sorted by priority, and in order of registration within a priority
+        int index = 0;
+        while (index < decorators.size()
+                && priorities.get(decorators.get(index)).ordinal() <= priority.ordinal()) {
+            index++;
+        }
+
+        decorators.add(index, decorator);
+        priorities.put(decorator, priority);
+    }
+
+    public void unregisterDecorator(SlotDecorator decorator) {
+        decorators.remove(decorator);
+        priorities.remove(decorator);
+    }
+
+    /** Decorates all active slots of the container, called while the container slots are being rendered */
+    public void decorateContainer(AbstractContainerScreen<?> screen, boolean foreground) {
+        List<Slot> slots = screen.getMenu().slots;
+
+        for (int i = 0; i < decorators.size(); i++) {
+            SlotDecorator decorator = decorators.get(i);
+            try {
+                for (int j = 0; j < slots.size(); j++) {
+                    Slot slot = slots.get(j);
+                    if (!slot.isActive()) continue;
+
+                    decorate(decorator, slot.getItem(), slot.x, slot.y, false, foreground);
+                }
+            } catch (Throwable t) {
+                handleDecoratorCrash(decorator, t);
+                i--;
+            }
+
+            decorations.flush();
+        }
+    }
+
+    /**
+     * Decorates the background of all hotbar slots, called before the first hotbar slot is rendered. The slots are
+     * laid out like {@code Gui#renderHotbar} does.
+     */
+    public void decorateHotbarBackground(Player player, int screenWidth, int screenHeight) {
+        hotbarStacks.clear();
+
+        int centerX = screenWidth / 2;
+        int y = screenHeight - 16 - 3;
+        for (int i = 0; i < Inventory.getSelectionSize(); i++) {
+            addHotbarSlot(player.getInventory().items.get(i), centerX - 90 + i * 20 + 2, y);
+        }
+
+        ItemStack offhandStack = player.getOffhandItem();
+        if (!offhandStack.isEmpty()) {
+            int x = player.getMainArm().getOpposite() == HumanoidArm.LEFT ? centerX - 91 - 26 : centerX + 91 + 10;
+            addHotbarSlot(offhandStack, x, y);
+        }
+
+        decorateHotbar(false);
+    }
+
+    /** Decorates the foreground of the hotbar slots, called after the hotbar is rendered */
+    public void decorateHotbarForeground() {
+        decorateHotbar(true);
+
+        hotbarStacks.clear();
+    }
+
+    private void addHotbarSlot(ItemStack stack, int x, int y) {
+        int index = hotbarStacks.size();
+        if (index * 2 + 1 >= hotbarPositions.length) {
+            hotbarPositions = Arrays.copyOf(hotbarPositions, hotbarPositions.length * 2);
+        }
+
+        hotbarStacks.add(stack);
+        hotbarPositions[index * 2] = x;
+        hotbarPositions[index * 2 + 1] = y;
+    }
+
+    private void decorateHotbar(boolean foreground) {
+        for (int i = 0; i < decorators.size(); i++) {
+            SlotDecorator decorator = decorators.get(i);
+            try {
+                for (int j = 0; j < hotbarStacks.size(); j++) {
+                    decorate(
+                            decorator,
+                            hotbarStacks.get(j),
+                            hotbarPositions[j * 2],
+                            hotbarPositions[j * 2 + 1],
+                            true,
+                            foreground);
+                }
+            } catch (Throwable t) {
+                handleDecoratorCrash(decorator, t);
+                i--;
+            }
+
+            decorations.flush();
+        }
+    }
+
+    private void decorate(
+            SlotDecorator decorator, ItemStack stack, int x, int y, boolean hotbar, boolean foreground) {
+        if (foreground) {
+            decorator.decorateForeground(decorations, stack, x, y, hotbar);
+        } else {
+            decorator.decorateBackground(decorations, stack, x, y, hotbar);
+        }
+    }
+
+    private void handleDecoratorCrash(SlotDecorator decorator, Throwable t) {
+        // Decorating runs every frame, so stop using the decorator instead of logging the error over and over
+        WynntilsMod.error("Exception in slot decorator " + decorator.getClass().getSimpleName(), t);
+        WynntilsMod.warn("This slot decorator will be disabled");
+        unregisterDecorator(decorator);
+    }
+}
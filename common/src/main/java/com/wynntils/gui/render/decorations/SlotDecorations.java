@@ -0,0 +1,117 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.gui.render.decorations;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.gui.render.FontRenderer;
+import com.wynntils.gui.render.RenderBatch;
+import com.wynntils.gui.render.TextRenderTask;
+import com.wynntils.mc.objects.CustomColor;
+import com.wynntils.mc.utils.McUtils;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Collects the decorations a {@link SlotDecorator} adds to all slots. Shapes are drawn in as few draw calls as
+ * possible by a {@link RenderBatch}, followed by all text.
+ */
+public final class SlotDecorations {
+    private final RenderBatch batch = new RenderBatch();
+    // Slot positions are already in screen coordinates, so nothing is ever pushed on this
+    private final PoseStack poseStack = new PoseStack();
+    private final PoseStack textPoseStack = new PoseStack();
+    private boolean hasText = false;
+
+    SlotDecorations() {}
+
+    public void drawRect(CustomColor color, float x, float y, float z, float width, float height) {
+        batch.drawRect(poseStack, color, x, y, z, width, height);
+    }
+
+    public void drawTexturedRect(
+            ResourceLocation tex,
+            float x,
+            float y,
+            float z,
+            float width,
+            float height,
+            int uOffset,
+            int vOffset,
+            int u,
+            int v,
+            int textureWidth,
+            int textureHeight) {
+        batch.drawTexturedRect(
+                poseStack, tex, x, y, z, width, height, uOffset, vOffset, u, v, textureWidth, textureHeight);
+    }
+
+    /** Draws the whole texture, scaled to the size of the rect */
+    public void drawScalingTexturedRect(
+            ResourceLocation tex,
+            float x,
+            float y,
+            float z,
+            float width,
+            float height,
+            int textureWidth,
+            int textureHeight) {
+        drawTexturedRect(tex, x, y, z, width, height, 0, 0, textureWidth, textureHeight, textureWidth, textureHeight);
+    }
+
+    public void drawTexturedRectWithColor(
+            ResourceLocation tex,
+            CustomColor color,
+            float x,
+            float y,
+            float z,
+            float width,
+            float height,
+            int textureWidth,
+            int textureHeight) {
+        batch.drawTexturedRectWithColor(
+                poseStack,
+                tex,
+                color,
+                x,
+                y,
+                z,
+                width,
+                height,
+                0,
+                0,
+                (int) width,
+                (int) height,
+                textureWidth,
+                textureHeight);
+    }
+
+    public void drawArc(CustomColor color, float x, float y, float z, float fill, int innerRadius, int outerRadius) {
+        batch.drawArc(poseStack, color, x, y, z, fill, innerRadius, outerRadius);
+    }
+
+    /** Draws the text with the text and its position scaled by the scale, like inside a {@link PoseStack#scale} */
+    public void drawText(TextRenderTask task, float x, float y, float z, float scale) {
+        textPoseStack.pushPose();
+        textPoseStack.translate(0, 0, z);
+        textPoseStack.scale(scale, scale, 1f);
+        FontRenderer.getInstance().renderTextInBatch(textPoseStack, getTextBuffer(), x, y, task);
+        textPoseStack.popPose();
+
+        hasText = true;
+    }
+
+    void flush() {
+        batch.flush();
+
+        if (hasText) {
+            getTextBuffer().endBatch();
+            hasText = false;
+        }
+    }
+
+    private MultiBufferSource.BufferSource getTextBuffer() {
+        return McUtils.mc().renderBuffers().bufferSource();
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.gui.render.decorations;
+
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Draws decorations on item slots, registered with {@link SlotDecorationManager}. The decorations of all slots of
+ * a container or the hotbar are drawn together afterwards, so decorators must only add them to the given {@link
+ * SlotDecorations} and never draw themselves.
+ */
+public interface SlotDecorator {
+    /** Decorations drawn below the item of the slot */
+    default void decorateBackground(SlotDecorations decorations, ItemStack stack, int x, int y, boolean hotbar) {}
+
+    /** Decorations drawn on top of the item of the slot */
+    default void decorateForeground(SlotDecorations decorations, ItemStack stack, int x, int y, boolean hotbar) {}
+}
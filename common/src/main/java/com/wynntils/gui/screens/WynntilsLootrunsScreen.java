@@ -18,6 +18,7 @@ import com.wynntils.gui.widgets.PageSelectorButton;
 import com.wynntils.gui.widgets.ReloadButton;
 import com.wynntils.mc.objects.CommonColors;
 import com.wynntils.utils.StringUtils;
+import com.wynntils.utils.TaskLane;
 import com.wynntils.utils.TaskUtils;
 import com.wynntils.wynn.event.LootrunCacheRefreshEvent;
 import com.wynntils.wynn.model.LootrunModel;
@@ -56,7 +57,7 @@ public final class WynntilsLootrunsScreen extends WynntilsMenuListScreen<Lootrun
     protected void doInit() {
         super.doInit();
 
-        TaskUtils.runAsync(Models.Lootrun::refreshLootrunCache);
+        TaskUtils.runAsync(TaskLane.SERIAL, Models.Lootrun::refreshLootrunCache);
 
         this.addRenderableWidget(new BackButton(
                 (int) ((Texture.QUEST_BOOK_BACKGROUND.width() / 2f - 16) / 2f),
@@ -70,7 +71,7 @@ public final class WynntilsLootrunsScreen extends WynntilsMenuListScreen<Lootrun
                 11,
                 (int) (Texture.RELOAD_BUTTON.width() / 2 / 1.7f),
                 (int) (Texture.RELOAD_BUTTON.height() / 1.7f),
-                () -> TaskUtils.runAsync(Models.Lootrun::refreshLootrunCache)));
+                () -> TaskUtils.runAsync(TaskLane.SERIAL, Models.Lootrun::refreshLootrunCache)));
 
         this.addRenderableWidget(new PageSelectorButton(
                 Texture.QUEST_BOOK_BACKGROUND.width() / 2 + 50 - Texture.FORWARD_ARROW.width() / 2,
@@ -18,9 +18,7 @@ import com.wynntils.gui.screens.guides.widgets.GuideIngredientItemStack;
 import com.wynntils.gui.widgets.BackButton;
 import com.wynntils.gui.widgets.PageSelectorButton;
 import com.wynntils.mc.objects.CommonColors;
-import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.mc.utils.McUtils;
-import com.wynntils.utils.StringUtils;
 import com.wynntils.wynn.item.IngredientItemStack;
 import java.util.List;
 import net.minecraft.ChatFormatting;
@@ -169,10 +167,7 @@ public final class WynntilsIngredientGuideScreen
 
     @Override
     protected void reloadElementsList(String searchTerm) {
-        elements.addAll(Managers.Item.getAllIngredientItems().stream()
-                .filter(itemStack ->
-                        StringUtils.partialMatch(ComponentUtils.getUnformatted(itemStack.getHoverName()), searchTerm))
-                .toList());
+        elements.addAll(Managers.Item.getIngredientSearchIndex().partialMatch(searchTerm));
     }
 
     @Override
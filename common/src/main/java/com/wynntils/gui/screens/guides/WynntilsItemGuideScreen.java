@@ -20,8 +20,8 @@ import com.wynntils.gui.widgets.PageSelectorButton;
 import com.wynntils.mc.objects.CommonColors;
 import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.mc.utils.McUtils;
-import com.wynntils.utils.StringUtils;
 import com.wynntils.wynn.item.GearItemStack;
+import com.wynntils.wynn.model.item.ItemStatQuery;
 import java.util.List;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
@@ -144,10 +144,8 @@ public final class WynntilsItemGuideScreen extends WynntilsMenuListScreen<GearIt
 
     @Override
     protected void reloadElementsList(String searchTerm) {
-        elements.addAll(Managers.Item.getAllGearItems().stream()
-                .filter(gearItemStack -> StringUtils.partialMatch(
-                        ComponentUtils.getUnformatted(gearItemStack.getHoverName()), searchTerm))
-                .toList());
+        // Stat filters like level:80-100 or sort:walkSpeed can be typed into the search bar along with the name
+        elements.addAll(Managers.Item.queryGearItems(ItemStatQuery.parse(searchTerm)).items());
     }
 
     @Override
@@ -19,9 +19,10 @@ import com.wynntils.gui.widgets.PageSelectorButton;
 import com.wynntils.mc.objects.CommonColors;
 import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.mc.utils.McUtils;
-import com.wynntils.utils.StringUtils;
+import com.wynntils.utils.SearchIndex;
 import com.wynntils.wynn.item.PowderItemStack;
 import com.wynntils.wynn.item.generator.PowderGenerator;
+import com.wynntils.wynn.model.item.ItemManager;
 import java.util.List;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
@@ -33,7 +34,7 @@ public final class WynntilsPowderGuideScreen extends WynntilsMenuListScreen<Powd
     private static final int ELEMENTS_COLUMNS = 7;
     private static final int ELEMENT_ROWS = 7;
 
-    private List<PowderItemStack> parsedItemCache;
+    private SearchIndex<PowderItemStack> parsedItemCache;
 
     private WynntilsPowderGuideScreen() {
         super(Component.translatable("screens.wynntils.wynntilsGuides.powder.name"));
@@ -46,9 +47,11 @@ public final class WynntilsPowderGuideScreen extends WynntilsMenuListScreen<Powd
     @Override
     protected void doInit() {
         if (parsedItemCache == null) {
-            parsedItemCache = PowderGenerator.getAllPowderProfiles().stream()
-                    .map(PowderItemStack::new)
-                    .toList();
+            parsedItemCache = new SearchIndex<>(
+                    PowderGenerator.getAllPowderProfiles().stream()
+                            .map(PowderItemStack::new)
+                            .toList(),
+                    ItemManager::getSearchName);
         }
 
         super.doInit();
@@ -151,10 +154,7 @@ public final class WynntilsPowderGuideScreen extends WynntilsMenuListScreen<Powd
 
     @Override
     protected void reloadElementsList(String searchTerm) {
-        elements.addAll(parsedItemCache.stream()
-                .filter(itemStack ->
-                        StringUtils.partialMatch(ComponentUtils.getUnformatted(itemStack.getHoverName()), searchTerm))
-                .toList());
+        elements.addAll(parsedItemCache.partialMatch(searchTerm));
     }
 
     @Override
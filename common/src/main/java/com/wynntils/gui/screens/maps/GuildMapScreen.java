@@ -11,6 +11,7 @@ import com.wynntils.features.user.map.GuildMapFeature;
 import com.wynntils.gui.render.FontRenderer;
 import com.wynntils.gui.render.HorizontalAlignment;
 import com.wynntils.gui.render.MapRenderer;
+import com.wynntils.gui.render.RenderBatch;
 import com.wynntils.gui.render.RenderUtils;
 import com.wynntils.gui.render.Texture;
 import com.wynntils.gui.render.VerticalAlignment;
@@ -41,6 +42,9 @@ public final class GuildMapScreen extends AbstractMapScreen {
 
     private BasicTexturedButton territoryDefenseFilterButton;
 
+    // Trading routes are drawn as one batch below the territories
+    private final RenderBatch routeBatch = new RenderBatch();
+
     private GuildMapScreen() {}
 
     public static Screen create() {
@@ -191,10 +195,11 @@ public final class GuildMapScreen extends AbstractMapScreen {
                     float x = MapRenderer.getRenderX(routePoi, mapCenterX, centerX, currentZoom);
                     float z = MapRenderer.getRenderZ(routePoi, mapCenterZ, centerZ, currentZoom);
 
-                    RenderUtils.drawLine(poseStack, CommonColors.DARK_GRAY, poiRenderX, poiRenderZ, x, z, 0, 1);
+                    routeBatch.drawLine(poseStack, CommonColors.DARK_GRAY, poiRenderX, poiRenderZ, x, z, 0, 1);
                 }
             }
         }
+        routeBatch.flush();
 
         // Reverse and Render
         for (int i = filteredPois.size() - 1; i >= 0; i--) {
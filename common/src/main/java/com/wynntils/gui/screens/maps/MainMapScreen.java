@@ -10,6 +10,7 @@ import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.net.hades.objects.HadesUser;
 import com.wynntils.features.user.map.MapFeature;
+import com.wynntils.gui.render.MapRenderer;
 import com.wynntils.gui.render.RenderUtils;
 import com.wynntils.gui.render.Texture;
 import com.wynntils.gui.widgets.BasicTexturedButton;
@@ -25,7 +26,6 @@ import com.wynntils.wynn.model.map.poi.Poi;
 import com.wynntils.wynn.model.map.poi.PoiLocation;
 import com.wynntils.wynn.model.map.poi.TerritoryPoi;
 import com.wynntils.wynn.model.map.poi.WaypointPoi;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import net.minecraft.ChatFormatting;
@@ -204,11 +204,11 @@ public final class MainMapScreen extends AbstractMapScreen {
     }
 
     private void renderPois(PoseStack poseStack, int mouseX, int mouseY) {
-        List<Poi> pois = new ArrayList<>();
+        BoundingBox textureBoundingBox =
+                BoundingBox.centered(mapCenterX, mapCenterZ, width / currentZoom, height / currentZoom);
 
-        pois.addAll(Models.Map.getServicePois());
-        pois.addAll(Models.Map.getCombatPois());
-        pois.addAll(Models.Map.getLabelPois());
+        List<Poi> pois = Models.Map.queryPois(
+                MapRenderer.getPoiQueryBox(textureBoundingBox, MapFeature.INSTANCE.poiScale), poi -> true);
 
         pois.addAll(MapFeature.INSTANCE.customPois);
 
@@ -232,7 +232,7 @@ public final class MainMapScreen extends AbstractMapScreen {
         renderPois(
                 pois,
                 poseStack,
-                BoundingBox.centered(mapCenterX, mapCenterZ, width / currentZoom, height / currentZoom),
+                textureBoundingBox,
                 MapFeature.INSTANCE.poiScale,
                 mouseX,
                 mouseY);
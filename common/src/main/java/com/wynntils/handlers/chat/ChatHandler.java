@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
 import net.minecraft.network.chat.Component;
@@ -77,6 +78,7 @@ public final class ChatHandler extends Handler {
     private final Set<Feature> dialogExtractionDependents = new HashSet<>();
     private String lastRealChat = null;
     private List<Component> lastNpcDialog = List.of();
+    private DialogueScreen lastDialogueScreen = null;
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onChatReceived(ChatPacketReceivedEvent e) {
@@ -89,7 +91,7 @@ public final class ChatHandler extends Handler {
         // make it a multiline message
         if (!codedMessage.contains("\n") || codedMessage.indexOf('\n') == (codedMessage.length() - 1)) {
             saveLastChat(message);
-            RecipientType recipientType = getRecipientType(message, MessageType.FOREGROUND);
+            RecipientType recipientType = getRecipientType(codedMessage, MessageType.FOREGROUND);
 
             if (recipientType == RecipientType.NPC) {
                 if (shouldSeparateNPC()) {
@@ -113,12 +115,30 @@ public final class ChatHandler extends Handler {
         }
 
         if (shouldSeparateNPC()) {
-            handleMultilineMessage(message);
+            handleMultilineMessage(message, codedMessage);
             e.setCanceled(true);
         }
     }
 
-    private void handleMultilineMessage(Component message) {
+    private void handleMultilineMessage(Component message, String codedMessage) {
+        String lastRealChatBefore = lastRealChat;
+
+        if (lastDialogueScreen != null
+                && lastDialogueScreen.codedScreen().equals(codedMessage)
+                && Objects.equals(lastDialogueScreen.lastRealChat(), lastRealChatBefore)) {
+            // Wynncraft resent the very same screen, so it will split up the very same way again
+            dispatchDialogueScreen(lastDialogueScreen);
+            return;
+        }
+
+        DialogueScreen screen = parseDialogueScreen(message, codedMessage);
+        dispatchDialogueScreen(screen);
+
+        // Parsing a resent screen only gives the same result once the last real chat is not moved by it anymore
+        lastDialogueScreen = Objects.equals(lastRealChat, lastRealChatBefore) ? screen : null;
+    }
+
+    private DialogueScreen parseDialogueScreen(Component message, String codedMessage) {
         List<Component> lines = ComponentUtils.splitComponentInLines(message);
         // From now on, we'll work on reversed lists
         Collections.reverse(lines);
@@ -138,8 +158,7 @@ public final class ChatHandler extends Handler {
         if (newLines.isEmpty()) {
             // No new lines has appeared since last registered chat line.
             // We could just have a dialog that disappeared, so we must signal this
-            handleNpcDialog(List.of(), NpcDialogueType.NONE);
-            return;
+            return new DialogueScreen(codedMessage, lastRealChat, List.of(), List.of(), NpcDialogueType.NONE);
         }
 
         if (newLines.getLast().getString().isEmpty()) {
@@ -204,10 +223,19 @@ public final class ChatHandler extends Handler {
             newLines.forEach(newChatLines::push);
         }
 
+        return new DialogueScreen(
+                codedMessage,
+                lastRealChat,
+                newChatLines,
+                dialog,
+                isNpcSelect ? NpcDialogueType.SELECTION : NpcDialogueType.NORMAL);
+    }
+
+    private void dispatchDialogueScreen(DialogueScreen screen) {
         // Register all new chat lines
         LinkedList<Component> noConfirmationDialog = new LinkedList<>();
 
-        newChatLines.forEach((line) -> handleFakeChatLine(line, noConfirmationDialog));
+        screen.newChatLines().forEach((line) -> handleFakeChatLine(line, noConfirmationDialog));
 
         if (!noConfirmationDialog.isEmpty()) {
             if (noConfirmationDialog.size() > 1) {
@@ -218,14 +246,14 @@ public final class ChatHandler extends Handler {
             WynntilsMod.postEvent(event);
         }
 
-        handleNpcDialog(dialog, isNpcSelect ? NpcDialogueType.SELECTION : NpcDialogueType.NORMAL);
+        handleNpcDialog(screen.dialog(), screen.type());
     }
 
     private void handleFakeChatLine(Component chatMsg, LinkedList<Component> noConfirmationDialog) {
         // This is a normal, single line chat
         String coded = ComponentUtils.getCoded(chatMsg);
 
-        RecipientType recipientType = getRecipientType(chatMsg, MessageType.BACKGROUND);
+        RecipientType recipientType = getRecipientType(coded, MessageType.BACKGROUND);
         if (shouldSeparateNPC()) {
             // It can be a background NPC chat message
             if (recipientType == RecipientType.NPC) {
@@ -234,7 +262,7 @@ public final class ChatHandler extends Handler {
                 return;
             }
             // But it can actually also be a foreground NPC chat message...
-            if (getRecipientType(chatMsg, MessageType.FOREGROUND) == RecipientType.NPC) {
+            if (getRecipientType(coded, MessageType.FOREGROUND) == RecipientType.NPC) {
                 // In this case, do *not* save this as last chat, since it will soon disappear
                 // from history!
                 noConfirmationDialog.add(chatMsg);
@@ -264,12 +292,10 @@ public final class ChatHandler extends Handler {
         }
     }
 
-    private RecipientType getRecipientType(Component message, MessageType messageType) {
-        String msg = ComponentUtils.getCoded(message);
-
+    private RecipientType getRecipientType(String codedMessage, MessageType messageType) {
         // Check if message match a recipient category
         for (RecipientType recipientType : RecipientType.values()) {
-            if (recipientType.matchPattern(msg, messageType)) {
+            if (recipientType.matchPattern(codedMessage, messageType)) {
                 return recipientType;
             }
         }
@@ -315,4 +341,15 @@ public final class ChatHandler extends Handler {
     public void removeNpcDialogExtractionDependent(Feature feature) {
         dialogExtractionDependents.remove(feature);
     }
+
+    /**
+     * The result of splitting up a multi-line "screen" that was received while {@code lastRealChat} was the last
+     * real chat line.
+     */
+    private record DialogueScreen(
+            String codedScreen,
+            String lastRealChat,
+            List<Component> newChatLines,
+            List<Component> dialog,
+            NpcDialogueType type) {}
 }
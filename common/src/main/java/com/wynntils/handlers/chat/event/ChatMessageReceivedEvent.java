@@ -16,9 +16,10 @@ public class ChatMessageReceivedEvent extends Event {
     // These are used to keep the original message so different features don't have to fight over it.
     private final Component originalMessage;
     private final String originalCodedMessage;
+    private String originalUnformattedMessage;
 
     private Component message;
-    private String codedMessage;
+    private String codedMessage; // lazily recomputed after setMessage
     private final MessageType messageType;
     private final RecipientType recipientType;
 
@@ -38,11 +39,15 @@ public class ChatMessageReceivedEvent extends Event {
     }
 
     public void setMessage(Component message) {
+        // Components are mutable, so the same instance may have been changed and always needs recoding
         this.message = message;
-        this.codedMessage = ComponentUtils.getCoded(message);
+        this.codedMessage = null;
     }
 
     public String getCodedMessage() {
+        if (codedMessage == null) {
+            codedMessage = ComponentUtils.getCoded(message);
+        }
         return codedMessage;
     }
 
@@ -61,4 +66,11 @@ public class ChatMessageReceivedEvent extends Event {
     public String getOriginalCodedMessage() {
         return originalCodedMessage;
     }
+
+    public String getOriginalUnformattedMessage() {
+        if (originalUnformattedMessage == null) {
+            originalUnformattedMessage = ComponentUtils.stripFormatting(originalCodedMessage);
+        }
+        return originalUnformattedMessage;
+    }
 }
@@ -11,6 +11,7 @@ import com.wynntils.mc.event.ScoreboardSetScoreEvent;
 import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.utils.Pair;
+import com.wynntils.utils.TaskUtils;
 import com.wynntils.wynn.event.WorldStateEvent;
 import com.wynntils.wynn.model.WorldStateManager;
 import com.wynntils.wynn.model.scoreboard.ScoreboardModel;
@@ -25,8 +26,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import net.minecraft.ChatFormatting;
@@ -54,7 +54,7 @@ public final class ScoreboardHandler extends Handler {
     private final List<Pair<ScoreboardListener, Set<ScoreboardModel.SegmentType>>> scoreboardListeners =
             new ArrayList<>();
 
-    private ScheduledExecutorService executor = null;
+    private ScheduledFuture<?> periodicTaskFuture = null;
 
     private boolean firstExecution = false;
 
@@ -327,15 +327,19 @@ public final class ScoreboardHandler extends Handler {
     }
 
     private void startThread() {
+        if (periodicTaskFuture != null) {
+            periodicTaskFuture.cancel(false);
+        }
+
         firstExecution = true;
-        executor = Executors.newScheduledThreadPool(1);
-        executor.scheduleAtFixedRate(this::periodicTask, 0, CHANGE_PROCESS_RATE, TimeUnit.MILLISECONDS);
+        periodicTaskFuture =
+                TaskUtils.scheduleAtFixedRate(this::periodicTask, 0, CHANGE_PROCESS_RATE, TimeUnit.MILLISECONDS);
     }
 
     private void resetState() {
-        if (executor != null) {
-            executor.shutdownNow();
-            executor = null;
+        if (periodicTaskFuture != null) {
+            periodicTaskFuture.cancel(false);
+            periodicTaskFuture = null;
         }
 
         queuedChanges.clear();
@@ -17,6 +17,7 @@ import com.wynntils.mc.event.ChatPacketReceivedEvent;
 import com.wynntils.mc.event.ChatScreenKeyTypedEvent;
 import com.wynntils.mc.event.ChatSentEvent;
 import com.wynntils.mc.event.ChestMenuQuickMoveEvent;
+import com.wynntils.mc.event.ChunkEvent;
 import com.wynntils.mc.event.ClientTickEvent;
 import com.wynntils.mc.event.ClientsideMessageEvent;
 import com.wynntils.mc.event.CommandSentEvent;
@@ -32,7 +33,6 @@ import com.wynntils.mc.event.DisplayResizeEvent;
 import com.wynntils.mc.event.DrawPotionGlintEvent;
 import com.wynntils.mc.event.DropHeldItemEvent;
 import com.wynntils.mc.event.GroundItemEntityTransformEvent;
-import com.wynntils.mc.event.HotbarSlotRenderEvent;
 import com.wynntils.mc.event.InventoryKeyPressEvent;
 import com.wynntils.mc.event.InventoryMouseClickedEvent;
 import com.wynntils.mc.event.ItemTooltipHoveredNameEvent;
@@ -71,11 +71,11 @@ import com.wynntils.mc.event.SetPlayerTeamEvent;
 import com.wynntils.mc.event.SetSlotEvent;
 import com.wynntils.mc.event.SetSpawnEvent;
 import com.wynntils.mc.event.SetXpEvent;
-import com.wynntils.mc.event.SlotRenderEvent;
 import com.wynntils.mc.event.SubtitleSetTextEvent;
 import com.wynntils.mc.event.TitleScreenInitEvent;
 import com.wynntils.mc.event.TitleSetTextEvent;
 import com.wynntils.mc.event.UseItemEvent;
+import com.wynntils.mc.mixin.accessors.ClientboundSectionBlocksUpdatePacketAccessor;
 import com.wynntils.mc.mixin.accessors.ClientboundSetPlayerTeamPacketAccessor;
 import com.wynntils.mc.objects.ChatType;
 import com.wynntils.wynn.utils.WynnUtils;
@@ -97,17 +97,22 @@ import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Position;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientboundAddPlayerPacket;
+import net.minecraft.network.protocol.game.ClientboundBlockUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundBossEventPacket;
 import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
 import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.network.protocol.game.ClientboundForgetLevelChunkPacket;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
 import net.minecraft.network.protocol.game.ClientboundOpenScreenPacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoRemovePacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerPositionPacket;
 import net.minecraft.network.protocol.game.ClientboundResourcePackPacket;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundSetExperiencePacket;
 import net.minecraft.network.protocol.game.ClientboundSetPassengersPacket;
 import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
@@ -126,6 +131,7 @@ import net.minecraft.world.inventory.ClickType;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.PotionItem;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.entity.EntityAccess;
 import net.minecraft.world.phys.BlockHitResult;
@@ -239,22 +245,6 @@ public final class EventFactory {
         post(new ItemTooltipRenderEvent.Post(poseStack, stack, mouseX, mouseY));
     }
 
-    public static void onSlotRenderPre(Screen screen, Slot slot) {
-        post(new SlotRenderEvent.Pre(screen, slot));
-    }
-
-    public static void onSlotRenderPost(Screen screen, Slot slot) {
-        post(new SlotRenderEvent.Post(screen, slot));
-    }
-
-    public static void onHotbarSlotRenderPre(ItemStack stack, int x, int y) {
-        post(new HotbarSlotRenderEvent.Pre(stack, x, y));
-    }
-
-    public static void onHotbarSlotRenderPost(ItemStack stack, int x, int y) {
-        post(new HotbarSlotRenderEvent.Post(stack, x, y));
-    }
-
     public static DrawPotionGlintEvent onPotionIsFoil(PotionItem item) {
         return post(new DrawPotionGlintEvent(item));
     }
@@ -558,6 +548,23 @@ public final class EventFactory {
         postAlways(new DisplayResizeEvent());
     }
 
+    public static void onChunkLoad(ClientboundLevelChunkWithLightPacket packet) {
+        post(new ChunkEvent.Load(new ChunkPos(packet.getX(), packet.getZ())));
+    }
+
+    public static void onChunkUnload(ClientboundForgetLevelChunkPacket packet) {
+        post(new ChunkEvent.Unload(new ChunkPos(packet.getX(), packet.getZ())));
+    }
+
+    public static void onBlockUpdate(ClientboundBlockUpdatePacket packet) {
+        post(new ChunkEvent.BlocksUpdated(new ChunkPos(packet.getPos())));
+    }
+
+    public static void onSectionBlocksUpdate(ClientboundSectionBlocksUpdatePacket packet) {
+        SectionPos sectionPos = ((ClientboundSectionBlocksUpdatePacketAccessor) packet).getSectionPos();
+        post(new ChunkEvent.BlocksUpdated(sectionPos.chunk()));
+    }
+
     // endregion
 
     // region Title Events
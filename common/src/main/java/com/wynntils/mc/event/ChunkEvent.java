@@ -0,0 +1,42 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.mc.event;
+
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.eventbus.api.Event;
+
+/**
+ * Fires when the client side contents of a chunk change, either because the chunk
+ * was (un)loaded or because the server updated blocks inside of it.
+ */
+public abstract class ChunkEvent extends Event {
+    private final ChunkPos chunkPos;
+
+    protected ChunkEvent(ChunkPos chunkPos) {
+        this.chunkPos = chunkPos;
+    }
+
+    public ChunkPos getChunkPos() {
+        return chunkPos;
+    }
+
+    public static class Load extends ChunkEvent {
+        public Load(ChunkPos chunkPos) {
+            super(chunkPos);
+        }
+    }
+
+    public static class Unload extends ChunkEvent {
+        public Unload(ChunkPos chunkPos) {
+            super(chunkPos);
+        }
+    }
+
+    public static class BlocksUpdated extends ChunkEvent {
+        public BlocksUpdated(ChunkPos chunkPos) {
+            super(chunkPos);
+        }
+    }
+}
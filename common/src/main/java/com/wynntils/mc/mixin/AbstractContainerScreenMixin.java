@@ -5,12 +5,13 @@
 package com.wynntils.mc.mixin;
 
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.components.Managers;
 import com.wynntils.mc.EventFactory;
-import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
 import net.minecraft.world.inventory.Slot;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -21,6 +22,28 @@ public abstract class AbstractContainerScreenMixin {
     @Shadow
     public Slot hoveredSlot;
 
+    @Unique
+    private boolean slotBackgroundsPending;
+
+    @Inject(method = "render(Lcom/mojang/blaze3d/vertex/PoseStack;IIF)V", at = @At("HEAD"))
+    private void renderPre(PoseStack client, int mouseX, int mouseY, float partialTicks, CallbackInfo info) {
+        slotBackgroundsPending = true;
+    }
+
+    // Called after all slots are rendered, while the pose is still relative to the container
+    @Inject(
+            method = "render(Lcom/mojang/blaze3d/vertex/PoseStack;IIF)V",
+            at =
+                    @At(
+                            value = "INVOKE",
+                            target =
+                                    "Lnet/minecraft/client/gui/screens/inventory/AbstractContainerScreen;renderLabels(Lcom/mojang/blaze3d/vertex/PoseStack;II)V"))
+    private void renderLabelsPre(PoseStack client, int mouseX, int mouseY, float partialTicks, CallbackInfo info) {
+        if (slotBackgroundsPending) return; // no slots were rendered
+
+        Managers.SlotDecoration.decorateContainer((AbstractContainerScreen<?>) (Object) this, true);
+    }
+
     @Inject(method = "render(Lcom/mojang/blaze3d/vertex/PoseStack;IIF)V", at = @At("RETURN"))
     private void renderPost(PoseStack client, int mouseX, int mouseY, float partialTicks, CallbackInfo info) {
         EventFactory.onContainerRender(
@@ -31,14 +54,11 @@ public abstract class AbstractContainerScreenMixin {
             method = "renderSlot(Lcom/mojang/blaze3d/vertex/PoseStack;Lnet/minecraft/world/inventory/Slot;)V",
             at = @At("HEAD"))
     private void renderSlotPre(PoseStack poseStack, Slot slot, CallbackInfo info) {
-        EventFactory.onSlotRenderPre((Screen) (Object) this, slot);
-    }
+        // Decorate the background of all slots at once, before the first slot is rendered
+        if (!slotBackgroundsPending) return;
 
-    @Inject(
-            method = "renderSlot(Lcom/mojang/blaze3d/vertex/PoseStack;Lnet/minecraft/world/inventory/Slot;)V",
-            at = @At("RETURN"))
-    private void renderSlotPost(PoseStack poseStack, Slot slot, CallbackInfo info) {
-        EventFactory.onSlotRenderPost((Screen) (Object) this, slot);
+        slotBackgroundsPending = false;
+        Managers.SlotDecoration.decorateContainer((AbstractContainerScreen<?>) (Object) this, false);
     }
 
     @Inject(method = "keyPressed(III)Z", at = @At("HEAD"), cancellable = true)
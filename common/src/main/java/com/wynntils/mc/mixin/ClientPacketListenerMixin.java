@@ -28,16 +28,20 @@ import net.minecraft.network.chat.RemoteChatSession;
 import net.minecraft.network.chat.SignedMessageBody;
 import net.minecraft.network.chat.SignedMessageLink;
 import net.minecraft.network.protocol.game.ClientboundAddPlayerPacket;
+import net.minecraft.network.protocol.game.ClientboundBlockUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.network.protocol.game.ClientboundContainerClosePacket;
 import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
 import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.network.protocol.game.ClientboundForgetLevelChunkPacket;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
 import net.minecraft.network.protocol.game.ClientboundOpenScreenPacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerChatPacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoRemovePacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerPositionPacket;
 import net.minecraft.network.protocol.game.ClientboundResourcePackPacket;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundSetDefaultSpawnPositionPacket;
 import net.minecraft.network.protocol.game.ClientboundSetExperiencePacket;
 import net.minecraft.network.protocol.game.ClientboundSetPassengersPacket;
@@ -395,4 +399,28 @@ public abstract class ClientPacketListenerMixin {
         if (!isRenderThread()) return;
         EventFactory.onUpdateAdvancements(packet);
     }
+
+    @Inject(method = "handleLevelChunkWithLight", at = @At("RETURN"))
+    private void handleLevelChunkWithLightPost(ClientboundLevelChunkWithLightPacket packet, CallbackInfo ci) {
+        if (!isRenderThread()) return;
+        EventFactory.onChunkLoad(packet);
+    }
+
+    @Inject(method = "handleForgetLevelChunk", at = @At("RETURN"))
+    private void handleForgetLevelChunkPost(ClientboundForgetLevelChunkPacket packet, CallbackInfo ci) {
+        if (!isRenderThread()) return;
+        EventFactory.onChunkUnload(packet);
+    }
+
+    @Inject(method = "handleBlockUpdate", at = @At("RETURN"))
+    private void handleBlockUpdatePost(ClientboundBlockUpdatePacket packet, CallbackInfo ci) {
+        if (!isRenderThread()) return;
+        EventFactory.onBlockUpdate(packet);
+    }
+
+    @Inject(method = "handleChunkBlocksUpdate", at = @At("RETURN"))
+    private void handleChunkBlocksUpdatePost(ClientboundSectionBlocksUpdatePacket packet, CallbackInfo ci) {
+        if (!isRenderThread()) return;
+        EventFactory.onSectionBlocksUpdate(packet);
+    }
 }
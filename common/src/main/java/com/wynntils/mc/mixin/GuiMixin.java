@@ -6,6 +6,7 @@ package com.wynntils.mc.mixin;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.components.Managers;
 import com.wynntils.mc.EventFactory;
 import com.wynntils.mc.event.RenderEvent;
 import com.wynntils.wynn.utils.WynnUtils;
@@ -18,6 +19,7 @@ import net.minecraft.world.item.ItemStack;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -29,18 +31,36 @@ public abstract class GuiMixin {
     @Final
     private Minecraft minecraft;
 
+    @Shadow
+    protected int screenWidth;
+
+    @Shadow
+    protected int screenHeight;
+
+    @Unique
+    private boolean hotbarBackgroundsPending;
+
+    @Inject(method = "renderHotbar", at = @At("HEAD"))
+    private void renderHotbarPre(float partialTick, PoseStack poseStack, CallbackInfo ci) {
+        hotbarBackgroundsPending = true;
+    }
+
     @Inject(
             method = "renderSlot(IIFLnet/minecraft/world/entity/player/Player;Lnet/minecraft/world/item/ItemStack;I)V",
             at = @At("HEAD"))
     private void renderSlotPre(int x, int y, float ticks, Player player, ItemStack stack, int i, CallbackInfo info) {
-        EventFactory.onHotbarSlotRenderPre(stack, x, y);
+        // Decorate the background of all slots at once, before the first slot is rendered
+        if (!hotbarBackgroundsPending) return;
+
+        hotbarBackgroundsPending = false;
+        Managers.SlotDecoration.decorateHotbarBackground(player, screenWidth, screenHeight);
     }
 
-    @Inject(
-            method = "renderSlot(IIFLnet/minecraft/world/entity/player/Player;Lnet/minecraft/world/item/ItemStack;I)V",
-            at = @At("RETURN"))
-    private void renderSlotPost(int x, int y, float ticks, Player player, ItemStack stack, int i, CallbackInfo info) {
-        EventFactory.onHotbarSlotRenderPost(stack, x, y);
+    @Inject(method = "renderHotbar", at = @At("RETURN"))
+    private void renderHotbarPost(float partialTick, PoseStack poseStack, CallbackInfo ci) {
+        if (hotbarBackgroundsPending) return; // no slots were rendered
+
+        Managers.SlotDecoration.decorateHotbarForeground();
     }
 
     // This does not work on Forge. See ForgeIngameGuiMixin for replacement.
@@ -0,0 +1,16 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.mc.mixin.accessors;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(ClientboundSectionBlocksUpdatePacket.class)
+public interface ClientboundSectionBlocksUpdatePacketAccessor {
+    @Accessor("sectionPos")
+    SectionPos getSectionPos();
+}
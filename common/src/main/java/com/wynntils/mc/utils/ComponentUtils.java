@@ -5,8 +5,9 @@
 package com.wynntils.mc.utils;
 
 import com.wynntils.wynn.utils.WynnUtils;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -22,6 +23,9 @@ import net.minecraft.network.chat.TextColor;
 public final class ComponentUtils {
     private static final Pattern NEWLINE_PATTERN = Pattern.compile("\n");
 
+    // Color value -> first color formatting with that value, in declaration order
+    private static final Int2ObjectMap<ChatFormatting> COLOR_FORMATTINGS = createColorFormattings();
+
     // Text with formatting codes "§cTest §1Text"
     public static String getCoded(Component component) {
         StringBuilder result = new StringBuilder();
@@ -53,12 +57,8 @@ public final class ComponentUtils {
     private static StringBuilder tryConstructDifference(Style oldStyle, Style newStyle) {
         StringBuilder add = new StringBuilder();
 
-        int oldColorInt = Optional.ofNullable(oldStyle.getColor())
-                .map(TextColor::getValue)
-                .orElse(-1);
-        int newColorInt = Optional.ofNullable(newStyle.getColor())
-                .map(TextColor::getValue)
-                .orElse(-1);
+        int oldColorInt = oldStyle.getColor() == null ? -1 : oldStyle.getColor().getValue();
+        int newColorInt = newStyle.getColor() == null ? -1 : newStyle.getColor().getValue();
 
         if (oldColorInt == -1) {
             if (newColorInt != -1) {
@@ -91,9 +91,17 @@ public final class ComponentUtils {
     }
 
     public static Optional<ChatFormatting> getChatFormatting(int textColor) {
-        return Arrays.stream(ChatFormatting.values())
-                .filter(c -> c.isColor() && textColor == c.getColor())
-                .findFirst();
+        return Optional.ofNullable(COLOR_FORMATTINGS.get(textColor));
+    }
+
+    private static Int2ObjectMap<ChatFormatting> createColorFormattings() {
+        Int2ObjectMap<ChatFormatting> colorFormattings = new Int2ObjectOpenHashMap<>();
+        for (ChatFormatting formatting : ChatFormatting.values()) {
+            if (formatting.isColor()) {
+                colorFormattings.putIfAbsent(formatting.getColor().intValue(), formatting);
+            }
+        }
+        return colorFormattings;
     }
 
     public static List<Component> stripDuplicateBlank(List<Component> lore) {
@@ -0,0 +1,254 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils;
+
+import it.unimi.dsi.fastutil.chars.Char2ObjectMap;
+import it.unimi.dsi.fastutil.chars.Char2ObjectOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.regex.Pattern;
+
+/**
+ * Finds which of a fixed set of keywords occur in a string, in a single pass over the string
+ * (Aho-Corasick). Keywords are identified by their index in the list given to the constructor.
+ *
+ * <p>Used together with {@link #getRequiredLiteral(Pattern)} to pick the few regexes worth running
+ * against a string out of a larger set.
+ */
+public final class KeywordMatcher {
+    // Letter escapes which stand for a single character or position, see Pattern
+    private static final String SINGLE_CHARACTER_ESCAPES = "dDsSwWbBAzZGRXhHvVtnrfae";
+
+    private final Node root = new Node();
+    private final BitSet alwaysMatched = new BitSet();
+
+    /**
+     * @param keywords the keywords to look for; an empty or null keyword matches every string
+     */
+    public KeywordMatcher(List<String> keywords) {
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            if (keyword == null || keyword.isEmpty()) {
+                alwaysMatched.set(i);
+                continue;
+            }
+
+            Node node = root;
+            for (int j = 0; j < keyword.length(); j++) {
+                node = node.children.computeIfAbsent(keyword.charAt(j), c -> new Node());
+            }
+            node.output.set(i);
+        }
+
+        buildFailureLinks();
+    }
+
+    /** Returns the indices of all keywords occurring in {@code text}. The returned set is owned by the caller. */
+    public BitSet match(String text) {
+        BitSet result = (BitSet) alwaysMatched.clone();
+
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            Node next = state.children.get(c);
+            while (next == null && state != root) {
+                state = state.fail;
+                next = state.children.get(c);
+            }
+            state = next == null ? root : next;
+
+            if (!state.output.isEmpty()) {
+                result.or(state.output);
+            }
+        }
+
+        return result;
+    }
+
+    private void buildFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Char2ObjectMap.Entry<Node> entry : node.children.char2ObjectEntrySet()) {
+                char c = entry.getCharKey();
+                Node child = entry.getValue();
+
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(c)) {
+                    fail = fail.fail;
+                }
+                Node target = fail.children.get(c);
+                child.fail = target == null ? root : target;
+
+                // A node also reports every keyword that is a suffix of its own prefix
+                child.output.or(child.fail.output);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the longest literal string every match of {@code pattern} must contain, or an empty string if no such
+     * literal could be determined. Only top-level literals are considered; groups, character classes, escapes other
+     * than escaped punctuation and anything followed by a quantifier end the current literal. Patterns with flags,
+     * inline flag groups, quoting, top-level alternation or escapes longer than one character (like unicode,
+     * octal or {@code \p{Lu}} escapes and back references) are conservatively given no literal.
+     */
+    public static String getRequiredLiteral(Pattern pattern) {
+        if (pattern.flags() != 0) return "";
+
+        String regex = pattern.pattern();
+        if (regex.contains("\\Q")) return "";
+
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '\\' -> {
+                    if (i + 1 >= regex.length()) return "";
+
+                    char escaped = regex.charAt(i + 1);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        // Longer escapes like \x41, \p{Lu} or back references would leave their rest in the literal
+                        if (SINGLE_CHARACTER_ESCAPES.indexOf(escaped) < 0) return "";
+
+                        longest = longer(longest, current);
+                        current.setLength(0);
+                    } else {
+                        current.append(escaped);
+                    }
+                    i += 2;
+                }
+                case '(' -> {
+                    if (isInlineFlagGroup(regex, i)) return "";
+
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                    i = skipGroup(regex, i);
+                    if (i < 0) return "";
+                }
+                case '[' -> {
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                    i = skipCharacterClass(regex, i);
+                    if (i < 0) return "";
+                }
+                case '?', '*', '+', '{' -> {
+                    // The previous character is optional or repeated, so it cannot be part of the literal
+                    if (!current.isEmpty()) {
+                        current.setLength(current.length() - 1);
+                    }
+                    longest = longer(longest, current);
+                    current.setLength(0);
+
+                    if (c == '{') {
+                        int end = regex.indexOf('}', i);
+                        if (end < 0) return "";
+                        i = end;
+                    }
+                    i++;
+                }
+                case '|' -> {
+                    return "";
+                }
+                case '.', '^', '$' -> {
+                    longest = longer(longest, current);
+                    current.setLength(0);
+                    i++;
+                }
+                default -> {
+                    current.append(c);
+                    i++;
+                }
+            }
+        }
+
+        return longer(longest, current);
+    }
+
+    private static String longer(String longest, StringBuilder current) {
+        return current.length() > longest.length() ? current.toString() : longest;
+    }
+
+    private static boolean isInlineFlagGroup(String regex, int start) {
+        if (start + 2 >= regex.length() || regex.charAt(start + 1) != '?') return false;
+
+        char type = regex.charAt(start + 2);
+        return type != ':' && type != '<' && type != '=' && type != '!' && type != '>';
+    }
+
+    /** Returns the index just past the group starting at {@code start}, or -1 if it is unterminated */
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '\\' -> i += 2;
+                case '[' -> {
+                    i = skipCharacterClass(regex, i);
+                    if (i < 0) return -1;
+                }
+                case '(' -> {
+                    depth++;
+                    i++;
+                }
+                case ')' -> {
+                    depth--;
+                    i++;
+                    if (depth == 0) return i;
+                }
+                default -> i++;
+            }
+        }
+
+        return -1;
+    }
+
+    /** Returns the index just past the character class starting at {@code start}, or -1 if it is unterminated */
+    private static int skipCharacterClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '\\' -> i += 2;
+                case '[' -> {
+                    depth++;
+                    i++;
+                    // A ']' right after the opening bracket (or its negation) is a literal
+                    if (i < regex.length() && regex.charAt(i) == '^') i++;
+                    if (i < regex.length() && regex.charAt(i) == ']') i++;
+                }
+                case ']' -> {
+                    depth--;
+                    i++;
+                    if (depth == 0) return i;
+                }
+                default -> i++;
+            }
+        }
+
+        return -1;
+    }
+
+    private static final class Node {
+        private final Char2ObjectMap<Node> children = new Char2ObjectOpenHashMap<>();
+        private final BitSet output = new BitSet();
+        private Node fail;
+    }
+}
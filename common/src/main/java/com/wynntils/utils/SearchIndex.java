@@ -0,0 +1,139 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils;
+
+import it.unimi.dsi.fastutil.chars.Char2ObjectMap;
+import it.unimi.dsi.fastutil.chars.Char2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Answers {@link StringUtils#partialMatch} and {@link StringUtils#initialMatch} queries over a fixed list of
+ * elements without lowercasing and scanning every name for every query.
+ *
+ * <p>The names are lowercased once, and for every character the set of names containing it is kept. A name can
+ * only match if it contains every character of the search term, so only the names in the intersection of these
+ * sets are checked. Results keep the order of the elements.
+ */
+public final class SearchIndex<T> {
+    private final List<T> elements;
+    private final String[] names;
+    private final Char2ObjectMap<BitSet> namesWithChar = new Char2ObjectOpenHashMap<>();
+
+    // Typing mostly appends to the search term, which can only remove matches, so only the last matches are checked
+    private String lastPartialSearch = null;
+    private BitSet lastPartialMatches = null;
+
+    public SearchIndex(List<T> elements, Function<T, String> nameFunction) {
+        this.elements = List.copyOf(elements);
+        this.names = new String[this.elements.size()];
+
+        for (int i = 0; i < names.length; i++) {
+            String name = nameFunction.apply(this.elements.get(i)).toLowerCase(Locale.ROOT);
+            names[i] = name;
+
+            for (int j = 0; j < name.length(); j++) {
+                namesWithChar.computeIfAbsent(name.charAt(j), c -> new BitSet()).set(i);
+            }
+        }
+    }
+
+    public List<T> getElements() {
+        return elements;
+    }
+
+    /** Returns all elements whose name matches the search term, as {@link StringUtils#partialMatch} */
+    public List<T> partialMatch(String searchTerm) {
+        return collect(partialMatchIndices(searchTerm));
+    }
+
+    /** Returns the indices in {@link #getElements()} of all elements whose name matches the search term */
+    public synchronized BitSet partialMatchIndices(String searchTerm) {
+        String search = searchTerm.toLowerCase(Locale.ROOT);
+
+        BitSet candidates;
+        if (lastPartialSearch != null && search.startsWith(lastPartialSearch)) {
+            candidates = (BitSet) lastPartialMatches.clone();
+        } else {
+            candidates = getCandidates(search);
+        }
+
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (!isSubsequence(names[i], search)) {
+                candidates.clear(i);
+            }
+        }
+
+        lastPartialSearch = search;
+        lastPartialMatches = candidates;
+
+        return (BitSet) candidates.clone();
+    }
+
+    /** Returns all elements whose name matches the search term, as {@link StringUtils#initialMatch} */
+    public List<T> initialMatch(String searchTerm) {
+        String search = searchTerm.strip().toLowerCase(Locale.ROOT);
+        String[] words = search.split("\\s+");
+
+        BitSet candidates = getCandidates(search);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (!containsInOrder(names[i], words)) {
+                candidates.clear(i);
+            }
+        }
+
+        return collect(candidates);
+    }
+
+    private BitSet getCandidates(String search) {
+        BitSet candidates = new BitSet(names.length);
+        candidates.set(0, names.length);
+
+        for (int i = 0; i < search.length(); i++) {
+            char c = search.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+
+            BitSet withChar = namesWithChar.get(c);
+            if (withChar == null) return new BitSet();
+
+            candidates.and(withChar);
+        }
+
+        return candidates;
+    }
+
+    private List<T> collect(BitSet matches) {
+        List<T> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            result.add(elements.get(i));
+        }
+        return result;
+    }
+
+    private static boolean isSubsequence(String name, String search) {
+        int nextIndex = 0;
+        for (int i = 0; i < search.length(); i++) {
+            int index = name.indexOf(search.charAt(i), nextIndex);
+            if (index == -1) return false;
+
+            nextIndex = index + 1;
+        }
+        return true;
+    }
+
+    private static boolean containsInOrder(String name, String[] words) {
+        int nextIndex = 0;
+        for (String word : words) {
+            int index = name.indexOf(word, nextIndex);
+            if (index == -1) return false;
+
+            nextIndex = index + word.length();
+        }
+        return true;
+    }
+}
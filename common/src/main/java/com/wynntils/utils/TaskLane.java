@@ -0,0 +1,17 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils;
+
+/** The lanes of the {@link TaskUtils} scheduler, so slow work of one kind does not hold up the others */
+public enum TaskLane {
+    /** Reading and writing files, and handling network responses */
+    IO,
+    /** Parsing and compiling, that keeps a core busy without waiting on anything */
+    CPU,
+    /** Timed and periodic tasks, which run on a single thread and must be short */
+    TIMERS,
+    /** Work that must run one task at a time, in the order it was submitted, like results delivered to callbacks */
+    SERIAL
+}
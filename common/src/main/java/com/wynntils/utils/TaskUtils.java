@@ -5,15 +5,216 @@
 package com.wynntils.utils;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.concurrent.Executors;
+import com.wynntils.core.WynntilsMod;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
+/**
+ * The scheduler for all background work of Wynntils. Work is split over the {@link TaskLane}s, each with its own
+ * threads, and the time tasks spend waiting and running is recorded per lane.
+ */
 public final class TaskUtils {
-    private static final ScheduledExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadScheduledExecutor(
-            new ThreadFactoryBuilder().setNameFormat("wynntils-utilities-%d").build());
+    private static final int IO_THREADS = 2;
+    // Leave one core for the game itself
+    private static final int CPU_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+    private static final Map<TaskLane, LaneStats> LANE_STATS = createLaneStats();
+
+    private static final ThreadPoolExecutor IO_EXECUTOR = createPoolExecutor(TaskLane.IO, IO_THREADS);
+    private static final ThreadPoolExecutor CPU_EXECUTOR = createPoolExecutor(TaskLane.CPU, CPU_THREADS);
+    private static final ScheduledThreadPoolExecutor TIMER_EXECUTOR = createTimerExecutor();
+    private static final ThreadPoolExecutor SERIAL_EXECUTOR = createPoolExecutor(TaskLane.SERIAL, 1);
 
+    /** Runs the task on the serial lane, after all tasks submitted before it */
     public static Future<?> runAsync(Runnable r) {
-        return EXECUTOR_SERVICE.submit(r);
+        return runAsync(TaskLane.SERIAL, r);
+    }
+
+    public static Future<?> runAsync(TaskLane lane, Runnable r) {
+        return getExecutorService(lane).submit(measured(lane, r));
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(TaskLane lane, Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, getExecutor(lane));
+    }
+
+    /** Runs the task on the IO lane once the delay has passed */
+    public static ScheduledFuture<?> runLater(Runnable r, long delayMillis) {
+        return runLater(TaskLane.IO, r, delayMillis);
+    }
+
+    public static ScheduledFuture<?> runLater(TaskLane lane, Runnable r, long delayMillis) {
+        if (lane == TaskLane.TIMERS) {
+            return TIMER_EXECUTOR.schedule(measured(lane, r), delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        return TIMER_EXECUTOR.schedule(() -> runAsync(lane, r), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs a short task on the timer lane at a fixed rate, until the returned future is cancelled. The timer lane is
+     * shared, so the future must be cancelled without interrupting, with {@code cancel(false)}. Unlike a plain
+     * scheduled executor, an exception does not stop the task from running again.
+     */
+    public static ScheduledFuture<?> scheduleAtFixedRate(Runnable r, long initialDelay, long period, TimeUnit unit) {
+        return TIMER_EXECUTOR.scheduleAtFixedRate(measured(TaskLane.TIMERS, logged(r)), initialDelay, period, unit);
+    }
+
+    /** Like {@link #scheduleAtFixedRate}, but waits for the delay after each run finished */
+    public static ScheduledFuture<?> scheduleWithFixedDelay(Runnable r, long initialDelay, long delay, TimeUnit unit) {
+        return TIMER_EXECUTOR.scheduleWithFixedDelay(measured(TaskLane.TIMERS, logged(r)), initialDelay, delay, unit);
+    }
+
+    /** An executor for the lane, e.g. for the async methods of {@link CompletableFuture} */
+    public static Executor getExecutor(TaskLane lane) {
+        return r -> getExecutorService(lane).execute(measured(lane, r));
+    }
+
+    public static LaneStats getLaneStats(TaskLane lane) {
+        return LANE_STATS.get(lane);
+    }
+
+    public static int getQueuedTasks(TaskLane lane) {
+        return switch (lane) {
+            case IO -> IO_EXECUTOR.getQueue().size();
+            case CPU -> CPU_EXECUTOR.getQueue().size();
+            case TIMERS -> TIMER_EXECUTOR.getQueue().size();
+            case SERIAL -> SERIAL_EXECUTOR.getQueue().size();
+        };
+    }
+
+    private static ExecutorService getExecutorService(TaskLane lane) {
+        return switch (lane) {
+            case IO -> IO_EXECUTOR;
+            case CPU -> CPU_EXECUTOR;
+            case TIMERS -> TIMER_EXECUTOR;
+            case SERIAL -> SERIAL_EXECUTOR;
+        };
+    }
+
+    private static Runnable measured(TaskLane lane, Runnable r) {
+        LaneStats stats = LANE_STATS.get(lane);
+        long submitted = System.nanoTime();
+
+        return () -> {
+            long started = System.nanoTime();
+            try {
+                r.run();
+            } finally {
+                // Timer tasks are meant to wait, only their run time is interesting
+                stats.record(lane == TaskLane.TIMERS ? 0 : started - submitted, System.nanoTime() - started);
+            }
+        };
+    }
+
+    private static Runnable logged(Runnable r) {
+        return () -> {
+            try {
+                r.run();
+            } catch (Throwable t) {
+                WynntilsMod.error("Exception in scheduled task", t);
+            }
+        };
+    }
+
+    private static Map<TaskLane, LaneStats> createLaneStats() {
+        Map<TaskLane, LaneStats> stats = new EnumMap<>(TaskLane.class);
+        for (TaskLane lane : TaskLane.values()) {
+            stats.put(lane, new LaneStats());
+        }
+        return stats;
+    }
+
+    private static ScheduledThreadPoolExecutor createTimerExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                1,
+                new ThreadFactoryBuilder()
+                        .setNameFormat("wynntils-timers-%d")
+                        .setDaemon(true)
+                        .build());
+        // Cancelled timers would otherwise stay queued until they were due
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static ThreadPoolExecutor createPoolExecutor(TaskLane lane, int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                IDLE_THREAD_TIMEOUT_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("wynntils-" + lane.name().toLowerCase(Locale.ROOT) + "-%d")
+                        .setDaemon(true)
+                        .build(),
+                (r, rejectingExecutor) -> {
+                    // Never drop a task, something may be waiting on it. Running it here slows down the submitter.
+                    LANE_STATS.get(lane).rejected.increment();
+                    WynntilsMod.warn("The " + lane + " task queue is full, running task on the calling thread");
+                    if (!rejectingExecutor.isShutdown()) {
+                        r.run();
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    public static final class LaneStats {
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAdder totalRunNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong maxRunNanos = new AtomicLong();
+
+        private void record(long waitNanos, long runNanos) {
+            completed.increment();
+            totalWaitNanos.add(waitNanos);
+            totalRunNanos.add(runNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+            maxRunNanos.accumulateAndGet(runNanos, Math::max);
+        }
+
+        public long getCompleted() {
+            return completed.sum();
+        }
+
+        public long getRejected() {
+            return rejected.sum();
+        }
+
+        public double getAverageWaitNanos() {
+            long count = getCompleted();
+            return count == 0 ? 0 : (double) totalWaitNanos.sum() / count;
+        }
+
+        public double getAverageRunNanos() {
+            long count = getCompleted();
+            return count == 0 ? 0 : (double) totalRunNanos.sum() / count;
+        }
+
+        public long getMaxWaitNanos() {
+            return maxWaitNanos.get();
+        }
+
+        public long getMaxRunNanos() {
+            return maxRunNanos.get();
+        }
     }
 }
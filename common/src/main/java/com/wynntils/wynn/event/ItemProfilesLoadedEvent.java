@@ -0,0 +1,16 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.event;
+
+import com.wynntils.core.events.EventThread;
+import net.minecraftforge.eventbus.api.Event;
+
+/** Fired by ItemProfilesManager when a downloaded list of profiles has replaced the previous one */
+@EventThread(EventThread.Type.WORKER)
+public abstract class ItemProfilesLoadedEvent extends Event {
+    public static class Items extends ItemProfilesLoadedEvent {}
+
+    public static class Ingredients extends ItemProfilesLoadedEvent {}
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.event;
+
+import com.wynntils.core.events.EventThread;
+import com.wynntils.wynn.objects.profiles.TerritoryProfile;
+import java.util.List;
+import java.util.Set;
+import net.minecraftforge.eventbus.api.Event;
+
+/** Fired when the downloaded territory profiles changed, e.g. when a territory was taken over by another guild */
+@EventThread(EventThread.Type.ANY)
+public class TerritoriesChangedEvent extends Event {
+    private final List<TerritoryProfile> changedTerritories;
+    private final Set<String> removedTerritories;
+
+    public TerritoriesChangedEvent(List<TerritoryProfile> changedTerritories, Set<String> removedTerritories) {
+        this.changedTerritories = changedTerritories;
+        this.removedTerritories = removedTerritories;
+    }
+
+    /** The new profiles of all added or changed territories */
+    public List<TerritoryProfile> getChangedTerritories() {
+        return changedTerritories;
+    }
+
+    /** The names of all territories that are no longer listed */
+    public Set<String> getRemovedTerritories() {
+        return removedTerritories;
+    }
+}
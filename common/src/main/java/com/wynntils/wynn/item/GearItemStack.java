@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -60,9 +61,12 @@ public class GearItemStack extends WynnItemStack {
     private List<Powder> powders;
     private int rerolls = 0;
 
+    // Most items are never hovered, so the tooltip variants are only built when first shown
+    private List<Component> baseTooltip;
     private List<Component> percentTooltip;
     private List<Component> rangeTooltip;
     private List<Component> rerollTooltip;
+    private int tooltipConfigGeneration;
 
     public GearItemStack(ItemStack stack) {
         super(stack);
@@ -135,7 +139,7 @@ public class GearItemStack extends WynnItemStack {
             baseTooltip = ComponentUtils.stripDuplicateBlank(baseTooltip);
         }
 
-        constructTooltips(baseTooltip);
+        this.baseTooltip = baseTooltip;
 
         // overall percent & name
         parseIDs();
@@ -156,9 +160,8 @@ public class GearItemStack extends WynnItemStack {
         customName = Component.literal(itemProfile.getDisplayName())
                 .withStyle(itemProfile.getTier().getChatFormatting());
 
-        List<Component> baseTooltip = constructBaseTooltip();
+        baseTooltip = constructBaseTooltip();
         identifications = WynnItemUtils.identificationsFromProfile(itemProfile);
-        constructTooltips(baseTooltip);
     }
 
     /** Chat item constructor - used when decoding an encoded chat string */
@@ -185,8 +188,7 @@ public class GearItemStack extends WynnItemStack {
                 .withStyle(itemProfile.getTier().getChatFormatting());
 
         parseIDs();
-        List<Component> baseTooltip = constructBaseTooltip();
-        constructTooltips(baseTooltip);
+        baseTooltip = constructBaseTooltip();
     }
 
     /** Gear viewer constructor - used when decoding internal json */
@@ -213,8 +215,13 @@ public class GearItemStack extends WynnItemStack {
                 .withStyle(itemProfile.getTier().getChatFormatting());
 
         parseIDs();
-        List<Component> baseTooltip = constructBaseTooltip();
-        constructTooltips(baseTooltip);
+        baseTooltip = constructBaseTooltip();
+    }
+
+    @Override
+    public boolean isCacheable() {
+        // Without a profile the stack is left unparsed, it has to be parsed again once the profiles are loaded
+        return itemProfile != null;
     }
 
     public ItemProfile getItemProfile() {
@@ -327,7 +334,7 @@ public class GearItemStack extends WynnItemStack {
         tooltip.add(getHoverName());
 
         if (isGuideStack) {
-            tooltip.addAll(rangeTooltip);
+            tooltip.addAll(getRangeTooltip());
             return tooltip;
         }
 
@@ -336,16 +343,16 @@ public class GearItemStack extends WynnItemStack {
                     .withStyle(ChatFormatting.DARK_GRAY)
                     .withStyle(ChatFormatting.ITALIC));
 
-            tooltip.addAll(percentTooltip);
+            tooltip.addAll(getPercentTooltip());
             return tooltip;
         }
 
         if (KeyboardUtils.isKeyDown(GLFW.GLFW_KEY_LEFT_SHIFT)) {
-            tooltip.addAll(rangeTooltip);
+            tooltip.addAll(getRangeTooltip());
         } else if (KeyboardUtils.isKeyDown(GLFW.GLFW_KEY_LEFT_CONTROL)) {
-            tooltip.addAll(rerollTooltip);
+            tooltip.addAll(getRerollTooltip());
         } else {
-            tooltip.addAll(percentTooltip);
+            tooltip.addAll(getPercentTooltip());
         }
 
         return tooltip;
@@ -383,46 +390,62 @@ public class GearItemStack extends WynnItemStack {
         customName = name;
     }
 
-    private void constructTooltips(List<Component> baseTooltip) {
-        int idIndex = baseTooltip.indexOf(ID_PLACEHOLDER);
-        baseTooltip.remove(ID_PLACEHOLDER);
-
-        percentTooltip = new ArrayList<>(baseTooltip);
-        rangeTooltip = new ArrayList<>(baseTooltip);
-        rerollTooltip = new ArrayList<>(baseTooltip);
-
-        if (!identifications.isEmpty() && idIndex != -1) {
-            Map<String, Component> percentMap = identifications.stream()
-                    .collect(Collectors.toMap(
-                            ItemIdentificationContainer::shortIdName, ItemIdentificationContainer::percentLoreLine));
-            Map<String, Component> rangeMap = identifications.stream()
-                    .collect(Collectors.toMap(
-                            ItemIdentificationContainer::shortIdName, ItemIdentificationContainer::rangeLoreLine));
-            Map<String, Component> rerollMap = identifications.stream()
-                    .collect(Collectors.toMap(
-                            ItemIdentificationContainer::shortIdName, ItemIdentificationContainer::rerollLoreLine));
-
-            Collection<Component> orderedPercents;
-            Collection<Component> orderedRanges;
-            Collection<Component> orderedRerolls;
-
-            if (ItemStatInfoFeature.INSTANCE.reorderIdentifications || isGuideStack) {
-                orderedPercents = IdentificationOrderer.INSTANCE.orderComponents(
-                        percentMap, ItemStatInfoFeature.INSTANCE.groupIdentifications);
-                orderedRanges = IdentificationOrderer.INSTANCE.orderComponents(
-                        rangeMap, ItemStatInfoFeature.INSTANCE.groupIdentifications);
-                orderedRerolls = IdentificationOrderer.INSTANCE.orderComponents(
-                        rerollMap, ItemStatInfoFeature.INSTANCE.groupIdentifications);
-            } else {
-                orderedPercents = percentMap.values();
-                orderedRanges = rangeMap.values();
-                orderedRerolls = rerollMap.values();
-            }
+    private List<Component> getPercentTooltip() {
+        checkTooltipGeneration();
+        if (percentTooltip == null) {
+            percentTooltip = constructTooltip(ItemIdentificationContainer::percentLoreLine);
+        }
+        return percentTooltip;
+    }
+
+    private List<Component> getRangeTooltip() {
+        checkTooltipGeneration();
+        if (rangeTooltip == null) {
+            rangeTooltip = constructTooltip(ItemIdentificationContainer::rangeLoreLine);
+        }
+        return rangeTooltip;
+    }
+
+    private List<Component> getRerollTooltip() {
+        checkTooltipGeneration();
+        if (rerollTooltip == null) {
+            rerollTooltip = constructTooltip(ItemIdentificationContainer::rerollLoreLine);
+        }
+        return rerollTooltip;
+    }
+
+    /** Forgets the built tooltips if the identification order config changed since they were built */
+    private void checkTooltipGeneration() {
+        int generation = ItemStatInfoFeature.INSTANCE.getConfigGeneration();
+        if (tooltipConfigGeneration == generation) return;
+
+        percentTooltip = null;
+        rangeTooltip = null;
+        rerollTooltip = null;
+        tooltipConfigGeneration = generation;
+    }
+
+    private List<Component> constructTooltip(Function<ItemIdentificationContainer, Component> loreLineGetter) {
+        List<Component> tooltip = new ArrayList<>(baseTooltip);
+        int idIndex = tooltip.indexOf(ID_PLACEHOLDER);
+        if (idIndex == -1) return tooltip;
 
-            percentTooltip.addAll(idIndex, orderedPercents);
-            rangeTooltip.addAll(idIndex, orderedRanges);
-            rerollTooltip.addAll(idIndex, orderedRerolls);
+        tooltip.remove(idIndex);
+        if (identifications.isEmpty()) return tooltip;
+
+        Map<String, Component> loreLines = identifications.stream()
+                .collect(Collectors.toMap(ItemIdentificationContainer::shortIdName, loreLineGetter));
+
+        Collection<Component> orderedLoreLines;
+        if (ItemStatInfoFeature.INSTANCE.reorderIdentifications || isGuideStack) {
+            orderedLoreLines = IdentificationOrderer.INSTANCE.orderComponents(
+                    loreLines, ItemStatInfoFeature.INSTANCE.groupIdentifications);
+        } else {
+            orderedLoreLines = loreLines.values();
         }
+
+        tooltip.addAll(idIndex, orderedLoreLines);
+        return tooltip;
     }
 
     private List<Component> constructBaseTooltip() {
@@ -23,8 +23,23 @@ public class IdentificationOrderer {
 
     private transient Map<Integer, Integer> organizedGroups = null;
 
-    public IdentificationOrderer(
-            Map<String, Integer> idOrders, ArrayList<String> groupRanges, ArrayList<String> inverted) {}
+    public IdentificationOrderer(Map<String, Integer> idOrders, List<String> groupRanges, List<String> inverted) {
+        if (idOrders != null) this.order.putAll(idOrders);
+        if (groupRanges != null) this.groups.addAll(groupRanges);
+        if (inverted != null) this.inverted.addAll(inverted);
+    }
+
+    public Map<String, Integer> getOrders() {
+        return order;
+    }
+
+    public List<String> getGroupRanges() {
+        return groups;
+    }
+
+    public List<String> getInvertedIds() {
+        return inverted;
+    }
 
     /**
      * @param id the identification "short" name. Ex: rawMainAttackNeutralDamage
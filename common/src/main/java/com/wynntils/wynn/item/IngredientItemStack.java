@@ -57,6 +57,11 @@ public class IngredientItemStack extends WynnItemStack {
         guideTooltip = generateGuideTooltip();
     }
 
+    @Override
+    public boolean isCacheable() {
+        return ingredientProfile != null;
+    }
+
     @Override
     public List<Component> getTooltipLines(Player player, TooltipFlag isAdvanced) {
         List<Component> tooltip = new ArrayList<>();
@@ -37,6 +37,12 @@ public class ServerItemStack extends WynnItemStack {
         extendTooltip(serverId);
     }
 
+    @Override
+    public boolean isCacheable() {
+        // The uptime changes all the time
+        return false;
+    }
+
     private void extendTooltip(int id) {
         List<Component> newTooltip = new ArrayList<>(getOriginalTooltip());
 
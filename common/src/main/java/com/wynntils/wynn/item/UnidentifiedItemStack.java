@@ -31,6 +31,7 @@ public class UnidentifiedItemStack extends WynnItemStack {
     private ItemType itemType;
     private ItemTier itemTier;
     private List<String> itemPossibilities;
+    private boolean missingGuessProfile = false;
 
     public UnidentifiedItemStack(ItemStack stack) {
         super(stack);
@@ -63,7 +64,10 @@ public class UnidentifiedItemStack extends WynnItemStack {
         if (levelRange == null) return;
 
         ItemGuessProfile guessProfile = Managers.ItemProfiles.getItemGuess(levelRange);
-        if (guessProfile == null) return;
+        if (guessProfile == null) {
+            missingGuessProfile = true;
+            return;
+        }
 
         Map<ItemTier, List<String>> rarityMap = guessProfile.getItems().get(itemType);
         if (rarityMap == null) return;
@@ -125,6 +129,12 @@ public class UnidentifiedItemStack extends WynnItemStack {
         return tooltip;
     }
 
+    @Override
+    public boolean isCacheable() {
+        // The guesses are missing until the profiles are loaded
+        return !missingGuessProfile;
+    }
+
     public Optional<ItemType> getItemType() {
         return Optional.ofNullable(itemType);
     }
@@ -6,17 +6,25 @@ package com.wynntils.wynn.item;
 
 import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.wynn.item.properties.ItemProperty;
+import com.wynntils.wynn.item.properties.ItemPropertyIndex;
 import com.wynntils.wynn.item.properties.type.PropertyType;
 import com.wynntils.wynn.utils.WynnUtils;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 
-public class WynnItemStack extends ItemStack {
+public class WynnItemStack extends ItemStack implements Cloneable {
     protected final String itemName;
-    private final List<ItemProperty> properties = new ArrayList<>();
+    private List<ItemProperty> properties = new ArrayList<>();
+
+    // Index of the properties by the type ids of ItemPropertyIndex, created once the first indexed property is added
+    private long propertyMask = 0;
+    private ItemProperty[] indexedProperties = null;
+    private List<?>[] propertyViews = null;
 
     public WynnItemStack(ItemStack stack) {
         super(stack.getItem(), stack.getCount());
@@ -37,6 +45,25 @@ public class WynnItemStack extends ItemStack {
     public void addProperty(ItemProperty property) {
         if (hasProperty(property.getClass())) return; // don't allow duplicate properties
         this.properties.add(property);
+
+        long typeMask = ItemPropertyIndex.getTypeMask(property.getClass());
+        if (typeMask == 0) return;
+
+        if (indexedProperties == null) {
+            indexedProperties = new ItemProperty[ItemPropertyIndex.getTypeCount()];
+            propertyViews = new List<?>[ItemPropertyIndex.getTypeCount()];
+        }
+
+        for (int id = 0; id < indexedProperties.length; id++) {
+            if ((typeMask & (1L << id)) == 0) continue;
+
+            // keep the first property of each type, like a scan would find
+            if (indexedProperties[id] == null) {
+                indexedProperties[id] = property;
+            }
+            propertyViews[id] = null;
+        }
+        propertyMask |= typeMask;
     }
 
     /**
@@ -44,6 +71,11 @@ public class WynnItemStack extends ItemStack {
      * Otherwise, returns null.
      */
     public <T> T getProperty(Class<T> propertyType) {
+        int id = ItemPropertyIndex.getTypeId(propertyType);
+        if (id != ItemPropertyIndex.NOT_INDEXED) {
+            return indexedProperties == null ? null : propertyType.cast(indexedProperties[id]);
+        }
+
         for (ItemProperty property : properties) {
             if (propertyType.isAssignableFrom(property.getClass())) return propertyType.cast(property);
         }
@@ -54,23 +86,78 @@ public class WynnItemStack extends ItemStack {
      * Returns true if the specified property, or a property of the specified type, is present
      */
     public boolean hasProperty(Class<?> propertyType) {
+        int id = ItemPropertyIndex.getTypeId(propertyType);
+        if (id != ItemPropertyIndex.NOT_INDEXED) {
+            return (propertyMask & (1L << id)) != 0;
+        }
+
         // getProperty returns null if no property of the given type is present
         return (getProperty(propertyType) != null);
     }
 
     /**
-     * Returns all the present properties of the specified type.
+     * Returns all the present properties of the specified type, as an unmodifiable list. For the types in {@link
+     * ItemProperty}, the list is created once and reused by later calls.
      */
     public <T extends PropertyType> List<T> getProperties(Class<T> propertyType) {
+        int id = ItemPropertyIndex.getTypeId(propertyType);
+        if (id == ItemPropertyIndex.NOT_INDEXED) return collectProperties(propertyType);
+
+        if ((propertyMask & (1L << id)) == 0) return List.of();
+
+        List<?> view = propertyViews[id];
+        if (view == null) {
+            view = collectProperties(propertyType);
+            propertyViews[id] = view;
+        }
+        return (List<T>) view;
+    }
+
+    private <T extends PropertyType> List<T> collectProperties(Class<T> propertyType) {
         List<T> collected = new ArrayList<>();
         for (ItemProperty property : properties) {
             if (propertyType.isAssignableFrom(property.getClass())) collected.add((T) property);
         }
-        return collected;
+        return Collections.unmodifiableList(collected);
     }
 
     /**
      * Called when all properties are setup on this stack
      */
     public void init() {}
+
+    /**
+     * Whether this parsed stack can be reused for later stacks with the same content. Stacks that could not find
+     * their profile yet, or that show live state, have to be parsed again every time.
+     */
+    public boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Returns a copy of this stack, with its own tag and its own properties. Properties without state are shared
+     * with the original, see {@link ItemProperty#attachCopy}. Everything else parsed from the stack is shared, and must
+     * be treated as read-only.
+     */
+    public WynnItemStack copyParsed() {
+        try {
+            WynnItemStack copy = (WynnItemStack) super.clone();
+            CompoundTag tag = getTag();
+            if (tag != null) copy.setTag(tag.copy());
+
+            // The clone shares the property list and index arrays, so give it its own
+            copy.properties = new ArrayList<>(properties.size());
+            copy.propertyMask = 0;
+            copy.indexedProperties = null;
+            copy.propertyViews = null;
+            for (ItemProperty property : properties) {
+                property.attachCopy(copy);
+            }
+
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            // Cannot happen, we are Cloneable
+            throw new IllegalStateException(e);
+        }
+    }
 }
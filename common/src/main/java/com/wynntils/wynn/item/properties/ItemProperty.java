@@ -36,4 +36,12 @@ public abstract class ItemProperty {
         // attach property to the itemstack
         item.addProperty(this);
     }
+
+    /**
+     * Attaches this property to a copy of its item stack, see {@link WynnItemStack#copyParsed()}. Properties which
+     * can change after they are created must attach a new instance instead, so the copies don't share their state.
+     */
+    public void attachCopy(WynnItemStack copy) {
+        copy.addProperty(this);
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.item.properties;
+
+import java.util.List;
+
+/**
+ * Gives each property type constant of {@link ItemProperty} a small id, so a {@link
+ * com.wynntils.wynn.item.WynnItemStack} can look up its properties of these types without scanning them. Other
+ * types are not indexed, and are looked up by scanning the properties of the item instead.
+ */
+public final class ItemPropertyIndex {
+    private static final List<Class<?>> INDEXED_TYPES = List.of(
+            ItemProperty.AMPLIFIER_TIER,
+            ItemProperty.CONSUMABLE_CHARGE,
+            ItemProperty.COSMETIC_TIER,
+            ItemProperty.DUNGEON_KEY,
+            ItemProperty.DURABILITY,
+            ItemProperty.HORSE,
+            ItemProperty.ITEM_TIER,
+            ItemProperty.INGREDIENT,
+            ItemProperty.MATERIAL,
+            ItemProperty.TELEPORT_SCROLL,
+            ItemProperty.SKILL_POINT,
+            ItemProperty.SKILL_ICON,
+            ItemProperty.HIGHLIGHT,
+            ItemProperty.TEXT_OVERLAY,
+            ItemProperty.SERVER_COUNT_PROPERTY,
+            ItemProperty.SEARCH_OVERLAY);
+
+    public static final int NOT_INDEXED = -1;
+
+    private static final ClassValue<Integer> TYPE_IDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return INDEXED_TYPES.indexOf(type);
+        }
+    };
+
+    // For each property class, the indexed types it is an instance of, as bits of the type ids
+    private static final ClassValue<Long> TYPE_MASKS = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> propertyClass) {
+            long mask = 0;
+            for (int i = 0; i < INDEXED_TYPES.size(); i++) {
+                if (INDEXED_TYPES.get(i).isAssignableFrom(propertyClass)) {
+                    mask |= 1L << i;
+                }
+            }
+            return mask;
+        }
+    };
+
+    static {
+        // The masks are stored in a long
+        if (INDEXED_TYPES.size() > Long.SIZE) {
+            throw new IllegalStateException("Too many indexed property types: " + INDEXED_TYPES.size());
+        }
+    }
+
+    private ItemPropertyIndex() {}
+
+    public static int getTypeCount() {
+        return INDEXED_TYPES.size();
+    }
+
+    /** Returns the id of the property type, or {@link #NOT_INDEXED} if it has none */
+    public static int getTypeId(Class<?> type) {
+        return TYPE_IDS.get(type);
+    }
+
+    /** Returns the ids of all indexed types the property class is an instance of, as a bit mask */
+    public static long getTypeMask(Class<?> propertyClass) {
+        return TYPE_MASKS.get(propertyClass);
+    }
+}
@@ -20,4 +20,10 @@ public class SearchOverlayProperty extends ItemProperty {
     public boolean isSearched() {
         return searched;
     }
+
+    @Override
+    public void attachCopy(WynnItemStack copy) {
+        // Every stack is searched on its own, so a copy starts out unsearched like a newly parsed stack
+        new SearchOverlayProperty(copy);
+    }
 }
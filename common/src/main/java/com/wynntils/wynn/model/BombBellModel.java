@@ -6,7 +6,6 @@ package com.wynntils.wynn.model;
 
 import com.wynntils.core.components.Model;
 import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
-import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.wynn.objects.BombInfo;
 import com.wynntils.wynn.objects.BombType;
 import java.util.Set;
@@ -29,7 +28,7 @@ public final class BombBellModel extends Model {
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onChat(ChatMessageReceivedEvent event) {
-        String unformatted = ComponentUtils.stripFormatting(event.getOriginalCodedMessage());
+        String unformatted = event.getOriginalUnformattedMessage();
 
         Matcher matcher = BOMB_BELL_PATTERN.matcher(unformatted);
         if (matcher.matches()) {
@@ -7,29 +7,41 @@ package com.wynntils.wynn.model;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Manager;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.net.Download;
 import com.wynntils.core.net.NetManager;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.wynn.event.ItemProfilesLoadedEvent;
 import com.wynntils.wynn.item.IdentificationOrderer;
 import com.wynntils.wynn.objects.profiles.ItemGuessProfile;
 import com.wynntils.wynn.objects.profiles.ingredient.IngredientProfile;
 import com.wynntils.wynn.objects.profiles.item.ItemProfile;
 import com.wynntils.wynn.objects.profiles.item.ItemType;
 import com.wynntils.wynn.objects.profiles.item.MajorIdentification;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.apache.commons.codec.digest.DigestUtils;
 
 public final class ItemProfilesManager extends Manager {
     private static final Gson ITEM_GUESS_GSON = new GsonBuilder()
             .registerTypeHierarchyAdapter(HashMap.class, new ItemGuessProfile.ItemGuessDeserializer())
             .create();
 
+    private static final String ITEM_LIST_SNAPSHOT = "item_list.snapshot";
+    private static final String INGREDIENT_LIST_SNAPSHOT = "ingredient_list.snapshot";
+
     private Map<String, ItemProfile> items = Map.of();
     private Map<String, ItemGuessProfile> itemGuesses = Map.of();
     private Map<String, String> translatedReferences = Map.of();
@@ -70,35 +82,97 @@ public final class ItemProfilesManager extends Manager {
         // https://wynnbuilder.github.io/compress.json
 
         Download dl = Managers.Net.download(UrlId.DATA_ATHENA_ITEM_LIST);
-        dl.handleJsonObject(json -> {
-            Type hashmapType = new TypeToken<HashMap<String, String>>() {}.getType();
-            translatedReferences = WynntilsMod.GSON.fromJson(json.getAsJsonObject("translatedReferences"), hashmapType);
-
-            internalIdentifications =
-                    WynntilsMod.GSON.fromJson(json.getAsJsonObject("internalIdentifications"), hashmapType);
+        dl.handleInputStream(inputStream -> {
+            try {
+                byte[] data = inputStream.readAllBytes();
+                String hash = DigestUtils.md5Hex(data);
+                File snapshotFile = Managers.Net.getCacheFile(ITEM_LIST_SNAPSHOT);
 
-            Type majorIdsType = new TypeToken<HashMap<String, MajorIdentification>>() {}.getType();
-            majorIdsMap = WynntilsMod.GSON.fromJson(json.getAsJsonObject("majorIdentifications"), majorIdsType);
+                ItemProfilesSnapshot.ItemList itemList = ItemProfilesSnapshot.readItemList(snapshotFile, hash);
+                if (itemList == null) {
+                    itemList = parseItemList(data);
+                    ItemProfilesSnapshot.writeItemList(snapshotFile, hash, itemList);
+                }
 
-            Type materialTypesType = new TypeToken<HashMap<ItemType, String[]>>() {}.getType();
-            materialTypes = WynntilsMod.GSON.fromJson(json.getAsJsonObject("materialTypes"), materialTypesType);
+                applyItemList(itemList);
+            } catch (IOException e) {
+                WynntilsMod.warn("Could not load the item list", e);
+            }
+        });
+    }
 
-            // FIXME: We should not be doing Singleton housekeeping for IdentificationOrderer!
-            IdentificationOrderer.INSTANCE =
-                    WynntilsMod.GSON.fromJson(json.getAsJsonObject("identificationOrder"), IdentificationOrderer.class);
+    private ItemProfilesSnapshot.ItemList parseItemList(byte[] data) throws IOException {
+        Type hashmapType = new TypeToken<HashMap<String, String>>() {}.getType();
+        Type majorIdsType = new TypeToken<HashMap<String, MajorIdentification>>() {}.getType();
+        Type materialTypesType = new TypeToken<HashMap<ItemType, String[]>>() {}.getType();
 
-            ItemProfile[] jsonItems = WynntilsMod.GSON.fromJson(json.getAsJsonArray("items"), ItemProfile[].class);
-            Map<String, ItemProfile> newItems = new HashMap<>();
-            for (ItemProfile itemProfile : jsonItems) {
-                itemProfile.getStatuses().forEach((shortId, idProfile) -> idProfile.calculateMinMax(shortId));
-                itemProfile.updateMajorIdsFromStrings(majorIdsMap);
-                itemProfile.registerIdTypes();
+        Map<String, String> newTranslatedReferences = null;
+        Map<String, String> newInternalIdentifications = null;
+        Map<String, MajorIdentification> newMajorIds = null;
+        Map<ItemType, String[]> newMaterialTypes = null;
+        IdentificationOrderer identificationOrderer = null;
+        List<ItemProfile> newItems = new ArrayList<>();
 
-                newItems.put(itemProfile.getDisplayName(), itemProfile);
+        // Read the profiles straight from the stream, without building a tree of the whole list first
+        try (JsonReader reader = createJsonReader(data)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "translatedReferences" -> newTranslatedReferences =
+                            WynntilsMod.GSON.fromJson(reader, hashmapType);
+                    case "internalIdentifications" -> newInternalIdentifications =
+                            WynntilsMod.GSON.fromJson(reader, hashmapType);
+                    case "majorIdentifications" -> newMajorIds = WynntilsMod.GSON.fromJson(reader, majorIdsType);
+                    case "materialTypes" -> newMaterialTypes = WynntilsMod.GSON.fromJson(reader, materialTypesType);
+                    case "identificationOrder" -> identificationOrderer =
+                            WynntilsMod.GSON.fromJson(reader, IdentificationOrderer.class);
+                    case "items" -> {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            newItems.add(WynntilsMod.GSON.fromJson(reader, ItemProfile.class));
+                        }
+                        reader.endArray();
+                    }
+                    default -> reader.skipValue();
+                }
             }
+            reader.endObject();
+        }
 
-            items = newItems;
-        });
+        // The identification order may come after the items, so this can only be done once everything is read
+        IdentificationOrderer orderer = identificationOrderer;
+        for (ItemProfile itemProfile : newItems) {
+            itemProfile.getStatuses().forEach((shortId, idProfile) -> idProfile.calculateMinMax(shortId, orderer));
+        }
+
+        return new ItemProfilesSnapshot.ItemList(
+                newTranslatedReferences,
+                newInternalIdentifications,
+                newMajorIds,
+                newMaterialTypes,
+                identificationOrderer,
+                newItems);
+    }
+
+    private void applyItemList(ItemProfilesSnapshot.ItemList itemList) {
+        translatedReferences = itemList.translatedReferences();
+        internalIdentifications = itemList.internalIdentifications();
+        majorIdsMap = itemList.majorIds();
+        materialTypes = itemList.materialTypes();
+
+        // FIXME: We should not be doing Singleton housekeeping for IdentificationOrderer!
+        IdentificationOrderer.INSTANCE = itemList.identificationOrderer();
+
+        Map<String, ItemProfile> newItems = new HashMap<>();
+        for (ItemProfile itemProfile : itemList.items()) {
+            itemProfile.updateMajorIdsFromStrings(majorIdsMap);
+            itemProfile.registerIdTypes();
+
+            newItems.put(itemProfile.getDisplayName(), itemProfile);
+        }
+
+        items = newItems;
+        WynntilsMod.postEvent(new ItemProfilesLoadedEvent.Items());
     }
 
     private void tryLoadIngredientList() {
@@ -108,22 +182,69 @@ public final class ItemProfilesManager extends Manager {
         // in Athena
 
         Download dl = Managers.Net.download(UrlId.DATA_ATHENA_INGREDIENT_LIST);
-        dl.handleJsonObject(json -> {
-            Type hashmapType = new TypeToken<HashMap<String, String>>() {}.getType();
-            ingredientHeadTextures = WynntilsMod.GSON.fromJson(json.getAsJsonObject("headTextures"), hashmapType);
+        dl.handleInputStream(inputStream -> {
+            try {
+                byte[] data = inputStream.readAllBytes();
+                String hash = DigestUtils.md5Hex(data);
+                File snapshotFile = Managers.Net.getCacheFile(INGREDIENT_LIST_SNAPSHOT);
 
-            IngredientProfile[] jsonItems =
-                    WynntilsMod.GSON.fromJson(json.getAsJsonArray("ingredients"), IngredientProfile[].class);
+                ItemProfilesSnapshot.IngredientList ingredientList =
+                        ItemProfilesSnapshot.readIngredientList(snapshotFile, hash);
+                if (ingredientList == null) {
+                    ingredientList = parseIngredientList(data);
+                    ItemProfilesSnapshot.writeIngredientList(snapshotFile, hash, ingredientList);
+                }
 
-            Map<String, IngredientProfile> newIngredients = new HashMap<>();
-            for (IngredientProfile ingredientProfile : jsonItems) {
-                newIngredients.put(ingredientProfile.getDisplayName(), ingredientProfile);
+                applyIngredientList(ingredientList);
+            } catch (IOException e) {
+                WynntilsMod.warn("Could not load the ingredient list", e);
             }
-
-            ingredients = newIngredients;
         });
     }
 
+    private ItemProfilesSnapshot.IngredientList parseIngredientList(byte[] data) throws IOException {
+        Type hashmapType = new TypeToken<HashMap<String, String>>() {}.getType();
+
+        Map<String, String> newHeadTextures = null;
+        List<IngredientProfile> newIngredients = new ArrayList<>();
+
+        try (JsonReader reader = createJsonReader(data)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "headTextures" -> newHeadTextures = WynntilsMod.GSON.fromJson(reader, hashmapType);
+                    case "ingredients" -> {
+                        reader.beginArray();
+                        while (reader.hasNext()) {
+                            newIngredients.add(WynntilsMod.GSON.fromJson(reader, IngredientProfile.class));
+                        }
+                        reader.endArray();
+                    }
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        return new ItemProfilesSnapshot.IngredientList(newHeadTextures, newIngredients);
+    }
+
+    private void applyIngredientList(ItemProfilesSnapshot.IngredientList ingredientList) {
+        ingredientHeadTextures = ingredientList.headTextures();
+
+        Map<String, IngredientProfile> newIngredients = new HashMap<>();
+        for (IngredientProfile ingredientProfile : ingredientList.ingredients()) {
+            newIngredients.put(ingredientProfile.getDisplayName(), ingredientProfile);
+        }
+
+        ingredients = newIngredients;
+        WynntilsMod.postEvent(new ItemProfilesLoadedEvent.Ingredients());
+    }
+
+    private static JsonReader createJsonReader(byte[] data) {
+        return new JsonReader(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8));
+    }
+
     public ItemGuessProfile getItemGuess(String levelRange) {
         return itemGuesses.get(levelRange);
     }
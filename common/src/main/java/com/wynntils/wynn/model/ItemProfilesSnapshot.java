@@ -0,0 +1,447 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.model;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.FileUtils;
+import com.wynntils.wynn.item.IdentificationOrderer;
+import com.wynntils.wynn.objects.profiles.ingredient.IngredientIdentificationContainer;
+import com.wynntils.wynn.objects.profiles.ingredient.IngredientInfo;
+import com.wynntils.wynn.objects.profiles.ingredient.IngredientItemModifiers;
+import com.wynntils.wynn.objects.profiles.ingredient.IngredientModifiers;
+import com.wynntils.wynn.objects.profiles.ingredient.IngredientProfile;
+import com.wynntils.wynn.objects.profiles.ingredient.IngredientTier;
+import com.wynntils.wynn.objects.profiles.ingredient.ProfessionType;
+import com.wynntils.wynn.objects.profiles.item.IdentificationModifier;
+import com.wynntils.wynn.objects.profiles.item.IdentificationProfile;
+import com.wynntils.wynn.objects.profiles.item.ItemAttackSpeed;
+import com.wynntils.wynn.objects.profiles.item.ItemDropType;
+import com.wynntils.wynn.objects.profiles.item.ItemInfoContainer;
+import com.wynntils.wynn.objects.profiles.item.ItemProfile;
+import com.wynntils.wynn.objects.profiles.item.ItemTier;
+import com.wynntils.wynn.objects.profiles.item.ItemType;
+import com.wynntils.wynn.objects.profiles.item.MajorIdentification;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the item and ingredient lists after they were parsed and post-processed, so an unchanged list is read back
+ * from a compact binary file instead of being parsed again. Every snapshot remembers the md5 of the list it was made
+ * from, and is only used for exactly that list.
+ *
+ * <p>The format version must be increased whenever the layout of the snapshot or of the stored profiles changes.
+ */
+final class ItemProfilesSnapshot {
+    private static final int SNAPSHOT_MAGIC = 0x57495053;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private ItemProfilesSnapshot() {}
+
+    static ItemList readItemList(File snapshotFile, String sourceHash) {
+        return read(snapshotFile, sourceHash, ItemProfilesSnapshot::readItemList);
+    }
+
+    static void writeItemList(File snapshotFile, String sourceHash, ItemList itemList) {
+        write(snapshotFile, sourceHash, itemList, ItemProfilesSnapshot::writeItemList);
+    }
+
+    static IngredientList readIngredientList(File snapshotFile, String sourceHash) {
+        return read(snapshotFile, sourceHash, ItemProfilesSnapshot::readIngredientList);
+    }
+
+    static void writeIngredientList(File snapshotFile, String sourceHash, IngredientList ingredientList) {
+        write(snapshotFile, sourceHash, ingredientList, ItemProfilesSnapshot::writeIngredientList);
+    }
+
+    private static <T> T read(File snapshotFile, String sourceHash, Reader<T> reader) {
+        if (!snapshotFile.exists()) return null;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) return null;
+            if (!in.readUTF().equals(sourceHash)) return null;
+
+            return reader.read(in);
+        } catch (IOException | RuntimeException e) {
+            WynntilsMod.warn("Discarding unreadable item snapshot " + snapshotFile.getName(), e);
+            FileUtils.deleteFile(snapshotFile);
+            return null;
+        }
+    }
+
+    private static <T> void write(File snapshotFile, String sourceHash, T value, Writer<T> writer) {
+        File tempFile = new File(snapshotFile.getPath() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeUTF(sourceHash);
+
+            writer.write(out, value);
+        } catch (IOException e) {
+            WynntilsMod.warn("Could not write item snapshot " + snapshotFile.getName(), e);
+            FileUtils.deleteFile(tempFile);
+            return;
+        }
+
+        try {
+            try {
+                Files.move(
+                        tempFile.toPath(),
+                        snapshotFile.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            WynntilsMod.warn("Could not store item snapshot " + snapshotFile.getName(), e);
+            FileUtils.deleteFile(tempFile);
+        }
+    }
+
+    private static ItemList readItemList(DataInputStream in) throws IOException {
+        Map<String, String> translatedReferences = readMap(in, DataInput::readUTF);
+        Map<String, String> internalIdentifications = readMap(in, DataInput::readUTF);
+        Map<String, MajorIdentification> majorIds =
+                readMap(in, input -> new MajorIdentification(readString(input), readString(input)));
+
+        Map<String, String[]> materialTypeNames =
+                readMap(in, input -> readList(input, DataInput::readUTF).toArray(String[]::new));
+        Map<ItemType, String[]> materialTypes = new LinkedHashMap<>();
+        materialTypeNames.forEach((type, materials) -> materialTypes.put(ItemType.valueOf(type), materials));
+
+        IdentificationOrderer identificationOrderer = new IdentificationOrderer(
+                readMap(in, DataInput::readInt),
+                readList(in, DataInput::readUTF),
+                readList(in, DataInput::readUTF));
+
+        List<ItemProfile> items = readList(in, ItemProfilesSnapshot::readItemProfile);
+
+        return new ItemList(
+                translatedReferences, internalIdentifications, majorIds, materialTypes, identificationOrderer, items);
+    }
+
+    private static void writeItemList(DataOutputStream out, ItemList itemList) throws IOException {
+        writeMap(out, itemList.translatedReferences(), DataOutput::writeUTF);
+        writeMap(out, itemList.internalIdentifications(), DataOutput::writeUTF);
+        writeMap(out, itemList.majorIds(), (output, majorId) -> {
+            writeString(output, majorId.getName());
+            writeString(output, majorId.getDescription());
+        });
+
+        Map<String, String[]> materialTypeNames = new LinkedHashMap<>();
+        itemList.materialTypes().forEach((type, materials) -> materialTypeNames.put(type.name(), materials));
+        writeMap(out, materialTypeNames, (output, materials) -> {
+            writeList(output, Arrays.asList(materials), DataOutput::writeUTF);
+        });
+
+        IdentificationOrderer identificationOrderer = itemList.identificationOrderer();
+        writeMap(out, identificationOrderer.getOrders(), DataOutput::writeInt);
+        writeList(out, identificationOrderer.getGroupRanges(), DataOutput::writeUTF);
+        writeList(out, identificationOrderer.getInvertedIds(), DataOutput::writeUTF);
+
+        writeList(out, itemList.items(), ItemProfilesSnapshot::writeItemProfile);
+    }
+
+    private static ItemProfile readItemProfile(DataInputStream in) throws IOException {
+        String displayName = in.readUTF();
+        ItemTier tier = readEnum(in, ItemTier.class);
+        boolean identified = in.readBoolean();
+        int powderAmount = in.readInt();
+        ItemAttackSpeed attackSpeed = readEnum(in, ItemAttackSpeed.class);
+
+        ItemInfoContainer itemInfo = readNullable(
+                in,
+                input -> new ItemInfoContainer(
+                        readEnum(input, ItemType.class),
+                        readString(input),
+                        readEnum(input, ItemDropType.class),
+                        readString(input),
+                        readString(input),
+                        readString(input)));
+
+        Map<String, String> requirements = readMap(in, DataInput::readUTF);
+        Map<String, String> damageTypes = readMap(in, DataInput::readUTF);
+        Map<String, Integer> defenseTypes = readMap(in, DataInput::readInt);
+        Map<String, IdentificationProfile> statuses = readMap(
+                in,
+                input -> new IdentificationProfile(
+                        readEnum(input, IdentificationModifier.class),
+                        input.readInt(),
+                        input.readBoolean(),
+                        input.readBoolean(),
+                        input.readInt(),
+                        input.readInt()));
+
+        List<String> majorIds = readList(in, DataInput::readUTF);
+        String restriction = readString(in);
+        String lore = readString(in);
+
+        return new ItemProfile(
+                displayName,
+                tier,
+                identified,
+                powderAmount,
+                attackSpeed,
+                itemInfo,
+                requirements,
+                damageTypes,
+                defenseTypes,
+                statuses,
+                majorIds,
+                restriction,
+                lore);
+    }
+
+    private static void writeItemProfile(DataOutputStream out, ItemProfile profile) throws IOException {
+        out.writeUTF(profile.getDisplayName());
+        writeEnum(out, profile.getTier());
+        out.writeBoolean(profile.isIdentified());
+        out.writeInt(profile.getPowderAmount());
+        writeEnum(out, profile.getAttackSpeed());
+
+        writeNullable(out, profile.getItemInfo(), (output, itemInfo) -> {
+            writeEnum(output, itemInfo.getType());
+            writeString(output, itemInfo.getSet());
+            writeEnum(output, itemInfo.getDropType());
+            writeString(output, itemInfo.getArmorColor());
+            writeString(output, itemInfo.getMaterialName());
+            writeString(output, itemInfo.getMetadata());
+        });
+
+        writeMap(out, profile.getRawRequirements(), DataOutput::writeUTF);
+        writeMap(out, profile.getDamageTypes(), DataOutput::writeUTF);
+        writeMap(out, profile.getDefenseTypes(), DataOutput::writeInt);
+        writeMap(out, profile.getStatuses(), (output, status) -> {
+            writeEnum(output, status.getType());
+            output.writeInt(status.getBaseValue());
+            output.writeBoolean(status.isFixed());
+            output.writeBoolean(status.isInverted());
+            output.writeInt(status.getMin());
+            output.writeInt(status.getMax());
+        });
+
+        writeList(out, profile.getMajorIdNames(), DataOutput::writeUTF);
+        writeString(out, profile.getRestriction());
+        writeString(out, profile.getLore());
+    }
+
+    private static IngredientList readIngredientList(DataInputStream in) throws IOException {
+        Map<String, String> headTextures = readMap(in, DataInput::readUTF);
+        List<IngredientProfile> ingredients = readList(in, ItemProfilesSnapshot::readIngredientProfile);
+
+        return new IngredientList(headTextures, ingredients);
+    }
+
+    private static void writeIngredientList(DataOutputStream out, IngredientList ingredientList) throws IOException {
+        writeMap(out, ingredientList.headTextures(), DataOutput::writeUTF);
+        writeList(out, ingredientList.ingredients(), ItemProfilesSnapshot::writeIngredientProfile);
+    }
+
+    private static IngredientProfile readIngredientProfile(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+        IngredientTier tier = readEnum(in, IngredientTier.class);
+        boolean untradeable = in.readBoolean();
+        int level = in.readInt();
+        String material = readString(in);
+        List<ProfessionType> professions = readList(in, input -> readEnum(input, ProfessionType.class));
+        Map<String, IngredientIdentificationContainer> statuses = readMap(
+                in,
+                input -> new IngredientIdentificationContainer(
+                        readEnum(input, IdentificationModifier.class),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readBoolean()));
+
+        IngredientItemModifiers itemModifiers = readNullable(
+                in,
+                input -> new IngredientItemModifiers(
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt()));
+        IngredientModifiers ingredientModifiers = readNullable(
+                in,
+                input -> new IngredientModifiers(
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readInt()));
+        IngredientInfo ingredientInfo =
+                readNullable(in, input -> new IngredientInfo(readString(input), readString(input)));
+
+        return new IngredientProfile(
+                name,
+                tier,
+                untradeable,
+                level,
+                material,
+                professions,
+                statuses,
+                itemModifiers,
+                ingredientModifiers,
+                ingredientInfo);
+    }
+
+    private static void writeIngredientProfile(DataOutputStream out, IngredientProfile profile) throws IOException {
+        out.writeUTF(profile.getDisplayName());
+        writeEnum(out, profile.getTier());
+        out.writeBoolean(profile.isUntradeable());
+        out.writeInt(profile.getLevel());
+        writeString(out, profile.getMaterial());
+        writeList(out, profile.getProfessions(), ItemProfilesSnapshot::writeEnum);
+        writeMap(out, profile.getStatuses(), (output, status) -> {
+            writeEnum(output, status.getType());
+            output.writeInt(status.getMin());
+            output.writeInt(status.getMax());
+            output.writeBoolean(status.isFixed());
+        });
+
+        writeNullable(out, profile.getItemModifiers(), (output, modifiers) -> {
+            output.writeInt(modifiers.getDurability());
+            output.writeInt(modifiers.getDuration());
+            output.writeInt(modifiers.getCharges());
+            output.writeInt(modifiers.getStrength());
+            output.writeInt(modifiers.getDexterity());
+            output.writeInt(modifiers.getIntelligence());
+            output.writeInt(modifiers.getDefense());
+            output.writeInt(modifiers.getAgility());
+        });
+        writeNullable(out, profile.getIngredientModifiers(), (output, modifiers) -> {
+            output.writeInt(modifiers.getLeft());
+            output.writeInt(modifiers.getRight());
+            output.writeInt(modifiers.getAbove());
+            output.writeInt(modifiers.getUnder());
+            output.writeInt(modifiers.getTouching());
+            output.writeInt(modifiers.getNotTouching());
+        });
+        writeNullable(out, profile.getIngredientInfo(), (output, info) -> {
+            writeString(output, info.getMaterialName());
+            writeString(output, info.getMetadata());
+        });
+    }
+
+    // The item database leaves out fields instead of writing defaults, so almost anything can be null
+
+    private static String readString(DataInputStream in) throws IOException {
+        return readNullable(in, DataInput::readUTF);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeNullable(out, value, DataOutput::writeUTF);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> enumClass) throws IOException {
+        String name = readString(in);
+        return name == null ? null : Enum.valueOf(enumClass, name);
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        writeString(out, value == null ? null : value.name());
+    }
+
+    private static <T> T readNullable(DataInputStream in, Reader<T> reader) throws IOException {
+        return in.readBoolean() ? reader.read(in) : null;
+    }
+
+    private static <T> void writeNullable(DataOutputStream out, T value, Writer<T> writer) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writer.write(out, value);
+        }
+    }
+
+    private static <T> List<T> readList(DataInputStream in, Reader<T> reader) throws IOException {
+        int size = in.readInt();
+        if (size == -1) return null;
+
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(reader.read(in));
+        }
+        return list;
+    }
+
+    private static <T> void writeList(DataOutputStream out, List<T> list, Writer<T> writer) throws IOException {
+        if (list == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        out.writeInt(list.size());
+        for (T value : list) {
+            writer.write(out, value);
+        }
+    }
+
+    private static <T> Map<String, T> readMap(DataInputStream in, Reader<T> valueReader) throws IOException {
+        int size = in.readInt();
+        if (size == -1) return null;
+
+        // Keep the order of the database, like the maps created by Gson
+        Map<String, T> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            map.put(key, valueReader.read(in));
+        }
+        return map;
+    }
+
+    private static <T> void writeMap(DataOutputStream out, Map<String, T> map, Writer<T> valueWriter)
+            throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        out.writeInt(map.size());
+        for (Map.Entry<String, T> entry : map.entrySet()) {
+            out.writeUTF(entry.getKey());
+            valueWriter.write(out, entry.getValue());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Writer<T> {
+        void write(DataOutputStream out, T value) throws IOException;
+    }
+
+    record ItemList(
+            Map<String, String> translatedReferences,
+            Map<String, String> internalIdentifications,
+            Map<String, MajorIdentification> majorIds,
+            Map<ItemType, String[]> materialTypes,
+            IdentificationOrderer identificationOrderer,
+            List<ItemProfile> items) {}
+
+    record IngredientList(Map<String, String> headTextures, List<IngredientProfile> ingredients) {}
+}
@@ -8,21 +8,39 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
 import com.mojang.blaze3d.vertex.PoseStack;
-import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexBuffer;
+import com.mojang.blaze3d.vertex.VertexFormat;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Model;
 import com.wynntils.features.statemanaged.LootrunFeature;
 import com.wynntils.gui.render.CustomRenderType;
+import com.wynntils.mc.event.ChunkEvent;
 import com.wynntils.mc.utils.McUtils;
+import com.wynntils.utils.FileUtils;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
 import com.wynntils.wynn.event.LootrunCacheRefreshEvent;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.DateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -30,7 +48,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Camera;
 import net.minecraft.client.gui.Font;
@@ -53,11 +74,20 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.joml.Matrix4f;
 
 public final class LootrunModel extends Model {
     public static final File LOOTRUNS = WynntilsMod.getModStorageDir("lootruns");
 
+    private static final File COMPILED_LOOTRUNS = new File(WynntilsMod.getModStorageDir("cache"), "lootruns");
+    private static final int COMPILED_CACHE_MAGIC = 0x574c5243;
+    private static final int COMPILED_CACHE_VERSION = 1;
+
+    // Points sampled per block along the path spline
+    private static final float SAMPLE_RATE = 10f;
+
     private static final List<Integer> COLORS = List.of(
             ChatFormatting.RED.getColor(),
             ChatFormatting.GOLD.getColor(),
@@ -67,7 +97,7 @@ public final class LootrunModel extends Model {
             0x3f00ff,
             ChatFormatting.DARK_PURPLE.getColor());
 
-    private static List<LootrunInstance> LOOTRUN_INSTANCE_CACHE = new ArrayList<>();
+    private static volatile List<LootrunInstance> LOOTRUN_INSTANCE_CACHE = List.of();
 
     private LootrunState state = LootrunState.DISABLED;
 
@@ -78,11 +108,65 @@ public final class LootrunModel extends Model {
 
     private RecordingInformation recordingInformation = null;
 
+    // The level the cached block validness of the rendered lootruns was resolved in
+    private Level validnessLevel = null;
+
     public LootrunState getState() {
         return state;
     }
 
+    @SubscribeEvent
+    public void onChunkChanged(ChunkEvent event) {
+        // Points near a chunk border check blocks in the neighbouring chunks as well
+        ChunkPos chunkPos = event.getChunkPos();
+        for (int x = chunkPos.x - 1; x <= chunkPos.x + 1; x++) {
+            for (int z = chunkPos.z - 1; z <= chunkPos.z + 1; z++) {
+                long chunkLong = ChunkPos.asLong(x, z);
+                invalidateChunk(lootrun, chunkLong);
+                invalidateChunk(recordingCompiled, chunkLong);
+            }
+        }
+    }
+
+    private void invalidateChunk(LootrunInstance lootrun, long chunkLong) {
+        if (lootrun == null) return;
+
+        lootrun.blockValidness().remove(chunkLong);
+
+        BakedChunk bakedChunk = lootrun.bakedChunks().remove(chunkLong);
+        if (bakedChunk != null) {
+            bakedChunk.close();
+        }
+    }
+
+    private void invalidateAllChunks(LootrunInstance lootrun) {
+        if (lootrun == null) return;
+
+        lootrun.blockValidness().clear();
+
+        lootrun.bakedChunks().values().forEach(BakedChunk::close);
+        lootrun.bakedChunks().clear();
+    }
+
+    private void setLootrun(LootrunInstance lootrun) {
+        // Baked buffers live on the GPU, so they have to be released as soon as an instance is replaced
+        invalidateAllChunks(this.lootrun);
+        this.lootrun = lootrun;
+    }
+
+    private void setRecordingCompiled(LootrunInstance recordingCompiled) {
+        invalidateAllChunks(this.recordingCompiled);
+        this.recordingCompiled = recordingCompiled;
+    }
+
     public void render(PoseStack poseStack) {
+        Level level = McUtils.mc().level;
+        if (level != validnessLevel) {
+            invalidateAllChunks(lootrun);
+            invalidateAllChunks(recordingCompiled);
+            validnessLevel = level;
+        }
+
         renderLootrun(poseStack, lootrun, LootrunFeature.INSTANCE.activePathColor.asInt());
         renderLootrun(poseStack, recordingCompiled, LootrunFeature.INSTANCE.recordingPathColor.asInt());
     }
@@ -98,50 +182,86 @@ public final class LootrunModel extends Model {
             return;
         }
 
-        poseStack.pushPose();
-
         Camera camera = McUtils.mc().gameRenderer.getMainCamera();
+        Vec3 cameraPos = camera.getPosition();
 
-        poseStack.translate(-camera.getPosition().x, -camera.getPosition().y, -camera.getPosition().z);
-
-        MultiBufferSource.BufferSource source = McUtils.mc().renderBuffers().bufferSource();
-        var points = lootrun.points();
         int renderDistance = McUtils.options().renderDistance().get();
         BlockPos pos = camera.getBlockPosition();
         ChunkPos origin = new ChunkPos(pos);
 
+        List<BakedChunk> visibleChunks = new ArrayList<>();
+        List<Note> visibleNotes = new ArrayList<>();
+
         for (int i = 0; i <= renderDistance; i++) {
             for (int j = 0; j <= renderDistance; j++) {
                 int x = j + origin.x - (renderDistance / 2);
                 int z = i + origin.z - (renderDistance / 2);
-                ChunkPos chunk = new ChunkPos(x, z);
-                if (!level.hasChunk(chunk.x, chunk.z)) {
+                if (!level.hasChunk(x, z)) {
                     continue;
                 }
 
-                long chunkLong = chunk.toLong();
-
-                if (points.containsKey(chunkLong)) {
-                    renderPoints(poseStack, source, points, chunkLong);
-                }
+                long chunkLong = ChunkPos.asLong(x, z);
 
-                if (lootrun.chests().containsKey(chunkLong)) {
-                    renderChests(poseStack, lootrun, color, source, chunkLong);
+                if (lootrun.points().containsKey(chunkLong) || lootrun.chests().containsKey(chunkLong)) {
+                    visibleChunks.add(getBakedChunk(level, lootrun, chunkLong, color));
                 }
 
                 if (LootrunFeature.INSTANCE.showNotes && lootrun.notes().containsKey(chunkLong)) {
-                    renderNotes(poseStack, lootrun, color, source, chunkLong);
+                    visibleNotes.addAll(lootrun.notes().get(chunkLong));
                 }
             }
         }
 
-        poseStack.popPose();
+        drawBakedChunks(poseStack, cameraPos, CustomRenderType.LOOTRUN_LINE, visibleChunks, BakedChunk::getPathBuffer);
+        drawBakedChunks(poseStack, cameraPos, RenderType.lines(), visibleChunks, BakedChunk::getChestBuffer);
+
+        if (!visibleNotes.isEmpty()) {
+            poseStack.pushPose();
+            poseStack.translate(-cameraPos.x, -cameraPos.y, -cameraPos.z);
+
+            MultiBufferSource.BufferSource source = McUtils.mc().renderBuffers().bufferSource();
+            renderNotes(poseStack, visibleNotes, color, source);
+            source.endBatch();
+
+            poseStack.popPose();
+        }
     }
 
-    private void renderNotes(
-            PoseStack poseStack, LootrunInstance lootrun, int color, MultiBufferSource source, long chunkLong) {
-        List<Note> notes = lootrun.notes().get(chunkLong);
+    private void drawBakedChunks(
+            PoseStack poseStack,
+            Vec3 cameraPos,
+            RenderType renderType,
+            List<BakedChunk> bakedChunks,
+            Function<BakedChunk, VertexBuffer> bufferGetter) {
+        boolean renderStateSetup = false;
+
+        for (BakedChunk bakedChunk : bakedChunks) {
+            VertexBuffer buffer = bufferGetter.apply(bakedChunk);
+            if (buffer == null) continue;
+
+            if (!renderStateSetup) {
+                renderType.setupRenderState();
+                renderStateSetup = true;
+            }
+
+            // Geometry is baked relative to the chunk origin, which keeps the float vertex data precise
+            poseStack.pushPose();
+            poseStack.translate(
+                    bakedChunk.getOriginX() - cameraPos.x, -cameraPos.y, bakedChunk.getOriginZ() - cameraPos.z);
+            Matrix4f modelView = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(poseStack.last().pose());
+            poseStack.popPose();
+
+            buffer.bind();
+            buffer.drawWithShader(modelView, RenderSystem.getProjectionMatrix(), RenderSystem.getShader());
+        }
+
+        if (renderStateSetup) {
+            VertexBuffer.unbind();
+            renderType.clearRenderState();
+        }
+    }
 
+    private void renderNotes(PoseStack poseStack, List<Note> notes, int color, MultiBufferSource source) {
         Font font = McUtils.mc().font;
 
         for (Note note : notes) {
@@ -162,112 +282,145 @@ public final class LootrunModel extends Model {
         }
     }
 
-    private void renderChests(
-            PoseStack poseStack,
-            LootrunInstance lootrun,
-            int color,
-            MultiBufferSource.BufferSource source,
-            long chunkLong) {
-        VertexConsumer consumer = source.getBuffer(RenderType.lines());
-        Set<BlockPos> chests = lootrun.chests().get(chunkLong);
-
-        float red = ((float) FastColor.ARGB32.red(color)) / 255;
-        float green = ((float) FastColor.ARGB32.green(color)) / 255;
-        float blue = ((float) FastColor.ARGB32.blue(color)) / 255;
+    private BakedChunk getBakedChunk(Level level, LootrunInstance lootrun, long chunkLong, int color) {
+        BakedChunk bakedChunk = lootrun.bakedChunks().get(chunkLong);
+        if (bakedChunk != null && bakedChunk.getChestColor() == color) return bakedChunk;
 
-        for (BlockPos chest : chests) {
-            LevelRenderer.renderLineBox(poseStack, consumer, new AABB(chest), red, green, blue, 1f);
+        if (bakedChunk != null) {
+            bakedChunk.close();
         }
 
-        source.endBatch();
-    }
+        ChunkPos chunkPos = new ChunkPos(chunkLong);
+        bakedChunk = new BakedChunk(chunkPos.getMinBlockX(), chunkPos.getMinBlockZ(), color);
 
-    private void renderPoints(
-            PoseStack poseStack,
-            MultiBufferSource.BufferSource source,
-            Long2ObjectMap<List<ColoredPath>> points,
-            long chunkLong) {
-        List<ColoredPath> locations = points.get(chunkLong);
+        List<ColoredPath> locations = lootrun.points().get(chunkLong);
+        if (locations != null) {
+            List<BlockValidness[]> validness = getBlockValidness(level, lootrun, chunkLong, locations);
+            bakedChunk.setPathBuffer(bakePoints(bakedChunk, locations, validness));
+        }
 
-        Level level = McUtils.mc().level;
-        if (level == null) return;
+        Set<BlockPos> chests = lootrun.chests().get(chunkLong);
+        if (chests != null) {
+            bakedChunk.setChestBuffer(bakeChests(bakedChunk, chests, color));
+        }
 
-        renderNonTexturedLootrunPoints(poseStack, source, locations, level, CustomRenderType.LOOTRUN_LINE);
+        lootrun.bakedChunks().put(chunkLong, bakedChunk);
+        return bakedChunk;
     }
 
-    private void renderNonTexturedLootrunPoints(
-            PoseStack poseStack,
-            MultiBufferSource.BufferSource source,
-            List<ColoredPath> locations,
-            Level level,
-            RenderType renderType) {
-        for (ColoredPath locationsInRoute : locations) {
-            VertexConsumer consumer = source.getBuffer(renderType);
-            Matrix4f lastMatrix = poseStack.last().pose();
-            boolean sourceBatchEnded = false;
+    private VertexBuffer bakePoints(
+            BakedChunk bakedChunk, List<ColoredPath> locations, List<BlockValidness[]> validness) {
+        BufferBuilder builder = Tesselator.getInstance().getBuilder();
+        builder.begin(VertexFormat.Mode.LINES, DefaultVertexFormat.POSITION_COLOR_NORMAL);
+        LineBaker baker = new LineBaker(builder, bakedChunk);
+
+        for (int pathIndex = 0; pathIndex < locations.size(); pathIndex++) {
+            List<ColoredPoint> points = locations.get(pathIndex).points();
+            BlockValidness[] pointValidness = validness.get(pathIndex);
 
-            ColoredPath toRender = new ColoredPath(new ArrayList<>());
+            // Every path is drawn as its own line strip
+            baker.breakLine();
+            boolean lineBroken = false;
+
+            List<ColoredPoint> toRender = new ArrayList<>();
 
             boolean pauseDraw = false;
-            BlockPos lastBlockPos = null;
 
-            for (ColoredPoint point : locationsInRoute.points()) {
-                BlockPos blockPos = new BlockPos(point.vec3());
+            for (int i = 0; i < points.size(); i++) {
+                ColoredPoint point = points.get(i);
+                BlockValidness blockValidness = pointValidness[i];
 
-                if (blockPos.equals(lastBlockPos)) { // Do not recalculate block validness
-                    if (!toRender.points().isEmpty()) {
-                        toRender.points().add(point);
+                if (blockValidness == null) { // Point shares its block with the last checked point
+                    if (!toRender.isEmpty()) {
+                        toRender.add(point);
                     }
+                } else if (blockValidness == BlockValidness.VALID) {
+                    pauseDraw = false;
+                    lineBroken = false;
+                    toRender.forEach(baker::addPoint);
+                    toRender.clear();
+                } else if (blockValidness == BlockValidness.HAS_BARRIER) {
+                    pauseDraw = true;
+                    toRender.clear();
                 } else {
-                    BlockValidness blockValidness = checkBlockValidness(level, point);
-
-                    if (blockValidness == BlockValidness.VALID) {
-                        pauseDraw = false;
-                        if (sourceBatchEnded) {
-                            consumer = source.getBuffer(renderType);
-                            sourceBatchEnded = false;
-                        }
-                        renderQueuedPoints(consumer, lastMatrix, toRender);
-                        toRender.points().clear();
-                    } else if (blockValidness == BlockValidness.HAS_BARRIER) {
-                        pauseDraw = true;
-                        toRender.points().clear();
-                    } else {
-                        pauseDraw = false;
-                        toRender.points().add(point);
-                        continue;
-                    }
+                    pauseDraw = false;
+                    toRender.add(point);
+                    continue;
                 }
 
-                lastBlockPos = blockPos;
-
                 if (!pauseDraw) {
-                    renderPoint(consumer, lastMatrix, point);
-                } else if (!sourceBatchEnded) {
-                    source.endBatch();
-                    sourceBatchEnded = true;
+                    baker.addPoint(point);
+                } else if (!lineBroken) {
+                    baker.breakLine();
+                    lineBroken = true;
                 }
             }
-            if (!sourceBatchEnded) {
-                renderQueuedPoints(consumer, lastMatrix, toRender);
-                source.endBatch();
+            if (!lineBroken) {
+                toRender.forEach(baker::addPoint);
             }
         }
+
+        return upload(builder.end(), baker.hasVertices());
+    }
+
+    private VertexBuffer bakeChests(BakedChunk bakedChunk, Set<BlockPos> chests, int color) {
+        BufferBuilder builder = Tesselator.getInstance().getBuilder();
+        builder.begin(VertexFormat.Mode.LINES, DefaultVertexFormat.POSITION_COLOR_NORMAL);
+
+        float red = ((float) FastColor.ARGB32.red(color)) / 255;
+        float green = ((float) FastColor.ARGB32.green(color)) / 255;
+        float blue = ((float) FastColor.ARGB32.blue(color)) / 255;
+
+        PoseStack poseStack = new PoseStack();
+        for (BlockPos chest : chests) {
+            AABB box = new AABB(chest).move(-bakedChunk.getOriginX(), 0, -bakedChunk.getOriginZ());
+            LevelRenderer.renderLineBox(poseStack, builder, box, red, green, blue, 1f);
+        }
+
+        return upload(builder.end(), !chests.isEmpty());
     }
 
-    private void renderQueuedPoints(VertexConsumer consumer, Matrix4f lastMatrix, ColoredPath toRender) {
-        for (ColoredPoint location : toRender.points()) {
-            renderPoint(consumer, lastMatrix, location);
+    private VertexBuffer upload(BufferBuilder.RenderedBuffer renderedBuffer, boolean hasVertices) {
+        if (!hasVertices) {
+            renderedBuffer.release();
+            return null;
         }
+
+        VertexBuffer buffer = new VertexBuffer();
+        buffer.bind();
+        buffer.upload(renderedBuffer);
+        VertexBuffer.unbind();
+        return buffer;
     }
 
-    private void renderPoint(VertexConsumer consumer, Matrix4f lastMatrix, ColoredPoint location) {
-        Vec3 rawLocation = location.vec3();
-        int pathColor = location.color();
-        consumer.vertex(lastMatrix, (float) rawLocation.x, (float) rawLocation.y, (float) rawLocation.z)
-                .color(pathColor)
-                .normal(0, 0, 1)
-                .endVertex();
+    private List<BlockValidness[]> getBlockValidness(
+            Level level, LootrunInstance lootrun, long chunkLong, List<ColoredPath> locations) {
+        List<BlockValidness[]> validness = lootrun.blockValidness().get(chunkLong);
+        if (validness != null) return validness;
+
+        validness = new ArrayList<>(locations.size());
+        for (ColoredPath path : locations) {
+            BlockValidness[] pointValidness = new BlockValidness[path.points().size()];
+            BlockPos lastBlockPos = null;
+
+            for (int i = 0; i < pointValidness.length; i++) {
+                ColoredPoint point = path.points().get(i);
+                BlockPos blockPos = new BlockPos(point.vec3());
+
+                // Leave points sharing a block with the last checked point as null, so they are not recalculated
+                if (blockPos.equals(lastBlockPos)) continue;
+
+                pointValidness[i] = checkBlockValidness(level, point);
+                if (pointValidness[i] != BlockValidness.INVALID) {
+                    lastBlockPos = blockPos;
+                }
+            }
+
+            validness.add(pointValidness);
+        }
+
+        lootrun.blockValidness().put(chunkLong, validness);
+        return validness;
     }
 
     private BlockValidness checkBlockValidness(Level level, ColoredPoint point) {
@@ -321,7 +474,7 @@ public final class LootrunModel extends Model {
         if (recording != null) {
             recordingInformation.setDirty(true);
         } else if (uncompiled != null) {
-            lootrun = compile(uncompiled, false);
+            setLootrun(compile(uncompiled, false));
             if (saveToFile && uncompiled.file() != null) {
                 LootrunSaveResult lootrunSaveResult =
                         trySaveCurrentLootrun(uncompiled.file().getName().replace(".json", ""));
@@ -349,7 +502,14 @@ public final class LootrunModel extends Model {
         Long2ObjectMap<List<Note>> notes = getNotes(uncompiled.notes());
 
         String lootrunName = getLootrunName(uncompiled, recording);
-        return new LootrunInstance(lootrunName, uncompiled.path, points, chests, notes);
+        return new LootrunInstance(
+                lootrunName,
+                uncompiled.path,
+                points,
+                chests,
+                notes,
+                new Long2ObjectOpenHashMap<>(),
+                new Long2ObjectOpenHashMap<>());
     }
 
     private String getLootrunName(LootrunUncompiled uncompiled, boolean recording) {
@@ -415,10 +575,8 @@ public final class LootrunModel extends Model {
     }
 
     private Long2ObjectMap<List<ColoredPath>> generatePointsByChunk(Path raw, boolean recording) {
-        float sampleRate = 10f;
-
         List<List<Vec3>> sampled =
-                sample(raw, sampleRate).stream().map(Path::points).toList();
+                sample(raw, SAMPLE_RATE).stream().map(Path::points).toList();
         List<Vec3> vec3s = sampled.stream().flatMap(List::stream).toList();
 
         ColoredPath locationsList = new ColoredPath(new ArrayList<>());
@@ -565,20 +723,20 @@ public final class LootrunModel extends Model {
     public void clearCurrentLootrun() {
         LootrunFeature.INSTANCE.disable();
         state = LootrunState.DISABLED;
-        lootrun = null;
+        setLootrun(null);
         uncompiled = null;
         recording = null;
-        recordingCompiled = null;
+        setRecordingCompiled(null);
         recordingInformation = null;
     }
 
     public void stopRecording() {
         // At this point, we already have LootrunFeature registered to the event bus
         state = LootrunState.LOADED;
-        lootrun = compile(recording, false);
+        setLootrun(compile(recording, false));
         uncompiled = recording;
         recording = null;
-        recordingCompiled = null;
+        setRecordingCompiled(null);
         recordingInformation = null;
     }
 
@@ -594,24 +752,237 @@ public final class LootrunModel extends Model {
     }
 
     public void refreshLootrunCache() {
+        File[] files = LOOTRUNS.listFiles((dir, name) -> name.endsWith(".json"));
+        if (files == null) files = new File[0];
+
+        FileUtils.mkdir(COMPILED_LOOTRUNS);
+
+        int colorKey = getColorKey();
+        Set<String> usedCacheFiles = new HashSet<>();
+        List<CompletableFuture<LootrunInstance>> futures = new ArrayList<>();
+        for (File file : files) {
+            File cacheFile = getCompiledCacheFile(file);
+            usedCacheFiles.add(cacheFile.getName());
+            // Compiling a lootrun is pure CPU work, so spread cache misses over the CPU lane
+            futures.add(TaskUtils.supplyAsync(TaskLane.CPU, () -> loadOrCompileLootrun(file, cacheFile, colorKey)));
+        }
+
         List<LootrunInstance> lootruns = new ArrayList<>();
+        for (CompletableFuture<LootrunInstance> future : futures) {
+            LootrunInstance instance = future.join();
+            if (instance != null) {
+                lootruns.add(instance);
+            }
+        }
+
+        pruneCompiledCache(usedCacheFiles);
 
-        File[] files = LOOTRUNS.listFiles();
-        for (File file : files != null ? files : new File[0]) {
-            if (file.getName().endsWith(".json")) {
-                try {
-                    FileReader reader = new FileReader(file, StandardCharsets.UTF_8);
-                    JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
-                    LootrunUncompiled uncompiled = readJson(file, json);
-                    lootruns.add(compile(uncompiled, false));
-                } catch (Exception e) {
-                    WynntilsMod.warn("Could not parse lootrun file.", e);
+        // Publish the whole list at once, readers never see a partially refreshed cache
+        LOOTRUN_INSTANCE_CACHE = List.copyOf(lootruns);
+        WynntilsMod.postEvent(new LootrunCacheRefreshEvent());
+    }
+
+    private LootrunInstance loadOrCompileLootrun(File file, File cacheFile, int colorKey) {
+        CompiledCacheKey key = new CompiledCacheKey(
+                file.getAbsolutePath(), file.lastModified(), file.length(), SAMPLE_RATE, colorKey);
+
+        LootrunInstance cached = readCompiledCache(cacheFile, key);
+        if (cached != null) return cached;
+
+        try (FileReader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+            LootrunInstance instance = compile(readJson(file, json), false);
+            writeCompiledCache(cacheFile, key, instance);
+            return instance;
+        } catch (Exception e) {
+            WynntilsMod.warn("Could not parse lootrun file.", e);
+            return null;
+        }
+    }
+
+    private int getColorKey() {
+        // Compiled points carry their colors, so a color config change must invalidate the cache
+        return Objects.hash(
+                LootrunFeature.INSTANCE.rainbowLootRun,
+                LootrunFeature.INSTANCE.cycleDistance,
+                LootrunFeature.INSTANCE.activePathColor.asInt());
+    }
+
+    private File getCompiledCacheFile(File lootrunFile) {
+        return new File(COMPILED_LOOTRUNS, DigestUtils.md5Hex(lootrunFile.getAbsolutePath()) + ".bin");
+    }
+
+    private void pruneCompiledCache(Set<String> usedCacheFiles) {
+        File[] cacheFiles = COMPILED_LOOTRUNS.listFiles();
+        if (cacheFiles == null) return;
+
+        for (File cacheFile : cacheFiles) {
+            if (!usedCacheFiles.contains(cacheFile.getName())) {
+                FileUtils.deleteFile(cacheFile);
+            }
+        }
+    }
+
+    private LootrunInstance readCompiledCache(File cacheFile, CompiledCacheKey expectedKey) {
+        if (!cacheFile.exists()) return null;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+            if (in.readInt() != COMPILED_CACHE_MAGIC || in.readInt() != COMPILED_CACHE_VERSION) return null;
+
+            CompiledCacheKey key =
+                    new CompiledCacheKey(in.readUTF(), in.readLong(), in.readLong(), in.readFloat(), in.readInt());
+            if (!key.equals(expectedKey)) return null;
+
+            String name = in.readUTF();
+
+            int pathSize = in.readInt();
+            Path path = new Path(new ArrayList<>(pathSize));
+            for (int i = 0; i < pathSize; i++) {
+                path.points().add(new Vec3(in.readDouble(), in.readDouble(), in.readDouble()));
+            }
+
+            int pointChunks = in.readInt();
+            Long2ObjectMap<List<ColoredPath>> points = new Long2ObjectOpenHashMap<>(pointChunks);
+            for (int i = 0; i < pointChunks; i++) {
+                long chunk = in.readLong();
+                int pathCount = in.readInt();
+                List<ColoredPath> paths = new ArrayList<>(pathCount);
+                for (int j = 0; j < pathCount; j++) {
+                    int pointCount = in.readInt();
+                    ColoredPath coloredPath = new ColoredPath(new ArrayList<>(pointCount));
+                    for (int k = 0; k < pointCount; k++) {
+                        Vec3 location = new Vec3(in.readFloat(), in.readFloat(), in.readFloat());
+                        coloredPath.points().add(new ColoredPoint(location, in.readInt()));
+                    }
+                    paths.add(coloredPath);
+                }
+                points.put(chunk, paths);
+            }
+
+            int chestChunks = in.readInt();
+            Long2ObjectMap<Set<BlockPos>> chests = new Long2ObjectOpenHashMap<>(chestChunks);
+            for (int i = 0; i < chestChunks; i++) {
+                long chunk = in.readLong();
+                int chestCount = in.readInt();
+                Set<BlockPos> chunkChests = new HashSet<>();
+                for (int j = 0; j < chestCount; j++) {
+                    chunkChests.add(BlockPos.of(in.readLong()));
+                }
+                chests.put(chunk, chunkChests);
+            }
+
+            int noteChunks = in.readInt();
+            Long2ObjectMap<List<Note>> notes = new Long2ObjectOpenHashMap<>(noteChunks);
+            for (int i = 0; i < noteChunks; i++) {
+                long chunk = in.readLong();
+                int noteCount = in.readInt();
+                List<Note> chunkNotes = new ArrayList<>(noteCount);
+                for (int j = 0; j < noteCount; j++) {
+                    Vec3 position = new Vec3(in.readDouble(), in.readDouble(), in.readDouble());
+                    String componentJson = new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+                    chunkNotes.add(new Note(position, Component.Serializer.fromJson(componentJson)));
                 }
+                notes.put(chunk, chunkNotes);
             }
+
+            return new LootrunInstance(
+                    name, path, points, chests, notes, new Long2ObjectOpenHashMap<>(), new Long2ObjectOpenHashMap<>());
+        } catch (IOException | RuntimeException e) {
+            WynntilsMod.warn("Discarding unreadable compiled lootrun cache " + cacheFile.getName(), e);
+            FileUtils.deleteFile(cacheFile);
+            return null;
         }
+    }
 
-        LOOTRUN_INSTANCE_CACHE = lootruns;
-        WynntilsMod.postEvent(new LootrunCacheRefreshEvent());
+    private void writeCompiledCache(File cacheFile, CompiledCacheKey key, LootrunInstance instance) {
+        // Every write gets its own temp file, so overlapping refreshes never write into the same file
+        File tempFile;
+        try {
+            tempFile = Files.createTempFile(cacheFile.getParentFile().toPath(), cacheFile.getName(), ".tmp")
+                    .toFile();
+        } catch (IOException e) {
+            WynntilsMod.warn("Could not create compiled lootrun cache for " + instance.name(), e);
+            return;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(COMPILED_CACHE_MAGIC);
+            out.writeInt(COMPILED_CACHE_VERSION);
+
+            out.writeUTF(key.path());
+            out.writeLong(key.lastModified());
+            out.writeLong(key.size());
+            out.writeFloat(key.sampleRate());
+            out.writeInt(key.colorKey());
+
+            out.writeUTF(instance.name());
+
+            out.writeInt(instance.path().points().size());
+            for (Vec3 point : instance.path().points()) {
+                out.writeDouble(point.x);
+                out.writeDouble(point.y);
+                out.writeDouble(point.z);
+            }
+
+            out.writeInt(instance.points().size());
+            for (Long2ObjectMap.Entry<List<ColoredPath>> entry : instance.points().long2ObjectEntrySet()) {
+                out.writeLong(entry.getLongKey());
+                out.writeInt(entry.getValue().size());
+                for (ColoredPath coloredPath : entry.getValue()) {
+                    out.writeInt(coloredPath.points().size());
+                    for (ColoredPoint point : coloredPath.points()) {
+                        // Sampled points come from float splines, so storing floats is lossless
+                        out.writeFloat((float) point.vec3().x);
+                        out.writeFloat((float) point.vec3().y);
+                        out.writeFloat((float) point.vec3().z);
+                        out.writeInt(point.color());
+                    }
+                }
+            }
+
+            out.writeInt(instance.chests().size());
+            for (Long2ObjectMap.Entry<Set<BlockPos>> entry : instance.chests().long2ObjectEntrySet()) {
+                out.writeLong(entry.getLongKey());
+                out.writeInt(entry.getValue().size());
+                for (BlockPos chest : entry.getValue()) {
+                    out.writeLong(chest.asLong());
+                }
+            }
+
+            out.writeInt(instance.notes().size());
+            for (Long2ObjectMap.Entry<List<Note>> entry : instance.notes().long2ObjectEntrySet()) {
+                out.writeLong(entry.getLongKey());
+                out.writeInt(entry.getValue().size());
+                for (Note note : entry.getValue()) {
+                    out.writeDouble(note.position().x);
+                    out.writeDouble(note.position().y);
+                    out.writeDouble(note.position().z);
+                    byte[] componentJson =
+                            Component.Serializer.toJson(note.component()).getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(componentJson.length);
+                    out.write(componentJson);
+                }
+            }
+        } catch (IOException e) {
+            WynntilsMod.warn("Could not write compiled lootrun cache for " + instance.name(), e);
+            FileUtils.deleteFile(tempFile);
+            return;
+        }
+
+        try {
+            try {
+                Files.move(
+                        tempFile.toPath(),
+                        cacheFile.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            WynntilsMod.warn("Could not store compiled lootrun cache for " + instance.name(), e);
+            FileUtils.deleteFile(tempFile);
+        }
     }
 
     public boolean tryLoadFile(String fileName) {
@@ -622,7 +993,7 @@ public final class LootrunModel extends Model {
                 FileReader file = new FileReader(lootrunFile, StandardCharsets.UTF_8);
                 JsonObject json = JsonParser.parseReader(file).getAsJsonObject();
                 uncompiled = readJson(lootrunFile, json);
-                lootrun = compile(uncompiled, false);
+                setLootrun(compile(uncompiled, false));
                 state = LootrunState.LOADED;
                 LootrunFeature.INSTANCE.enable();
                 file.close();
@@ -741,7 +1112,7 @@ public final class LootrunModel extends Model {
             }
 
             if (recordingInformation.isDirty()) {
-                recordingCompiled = compile(recording, true);
+                setRecordingCompiled(compile(recording, true));
                 recordingInformation.setDirty(false);
             }
         }
@@ -798,10 +1169,106 @@ public final class LootrunModel extends Model {
             Path path,
             Long2ObjectMap<List<ColoredPath>> points,
             Long2ObjectMap<Set<BlockPos>> chests,
-            Long2ObjectMap<List<Note>> notes) {}
+            Long2ObjectMap<List<Note>> notes,
+            // Resolved lazily per chunk while rendering, see getBlockValidness
+            Long2ObjectMap<List<BlockValidness[]>> blockValidness,
+            // Baked lazily per chunk while rendering, see getBakedChunk
+            Long2ObjectMap<BakedChunk> bakedChunks) {}
 
     private record ColoredPoint(Vec3 vec3, int color) {}
 
+    private static final class BakedChunk {
+        private final int originX;
+        private final int originZ;
+        private final int chestColor;
+
+        private VertexBuffer pathBuffer;
+        private VertexBuffer chestBuffer;
+
+        private BakedChunk(int originX, int originZ, int chestColor) {
+            this.originX = originX;
+            this.originZ = originZ;
+            this.chestColor = chestColor;
+        }
+
+        private int getOriginX() {
+            return originX;
+        }
+
+        private int getOriginZ() {
+            return originZ;
+        }
+
+        private int getChestColor() {
+            return chestColor;
+        }
+
+        private VertexBuffer getPathBuffer() {
+            return pathBuffer;
+        }
+
+        private void setPathBuffer(VertexBuffer pathBuffer) {
+            this.pathBuffer = pathBuffer;
+        }
+
+        private VertexBuffer getChestBuffer() {
+            return chestBuffer;
+        }
+
+        private void setChestBuffer(VertexBuffer chestBuffer) {
+            this.chestBuffer = chestBuffer;
+        }
+
+        private void close() {
+            if (pathBuffer != null) pathBuffer.close();
+            if (chestBuffer != null) chestBuffer.close();
+        }
+    }
+
+    /**
+     * Turns line strips into separate line segments, so one buffer can hold every strip of a chunk.
+     */
+    private static final class LineBaker {
+        private final BufferBuilder builder;
+        private final BakedChunk bakedChunk;
+
+        private ColoredPoint lastPoint = null;
+        private boolean hasVertices = false;
+
+        private LineBaker(BufferBuilder builder, BakedChunk bakedChunk) {
+            this.builder = builder;
+            this.bakedChunk = bakedChunk;
+        }
+
+        private void addPoint(ColoredPoint point) {
+            if (lastPoint != null) {
+                addVertex(lastPoint);
+                addVertex(point);
+                hasVertices = true;
+            }
+
+            lastPoint = point;
+        }
+
+        private void breakLine() {
+            lastPoint = null;
+        }
+
+        private boolean hasVertices() {
+            return hasVertices;
+        }
+
+        private void addVertex(ColoredPoint point) {
+            Vec3 location = point.vec3();
+            builder.vertex(location.x - bakedChunk.getOriginX(), location.y, location.z - bakedChunk.getOriginZ())
+                    .color(point.color())
+                    .normal(0, 0, 1)
+                    .endVertex();
+        }
+    }
+
+    private record CompiledCacheKey(String path, long lastModified, long size, float sampleRate, int colorKey) {}
+
     private static class RecordingInformation {
         private Vec3 lastLocation;
         private BlockPos lastChest;
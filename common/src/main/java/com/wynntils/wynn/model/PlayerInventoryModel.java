@@ -10,16 +10,25 @@ import com.wynntils.mc.event.SetSlotEvent;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.wynn.event.WorldStateEvent;
 import com.wynntils.wynn.utils.ContainerUtils;
-import com.wynntils.wynn.utils.InventoryUtils;
+import java.util.Arrays;
 import java.util.Objects;
+import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 public final class PlayerInventoryModel extends Model {
-
     private int emeralds = 0;
     private int openSlots = 0;
 
+    // Emerald value of each inventory menu slot, and whether each main inventory slot is empty, so that a single
+    // slot update only has to apply its own difference
+    private int[] slotEmeralds = new int[0];
+    private final boolean[] emptySlots = new boolean[Inventory.INVENTORY_SIZE];
+    // Maps an inventory slot to its inventory menu slot, or -1 if the menu does not show it
+    private int[] menuSlots = new int[0];
+
     @Override
     public void init() {
         resetCache();
@@ -51,19 +60,62 @@ public final class PlayerInventoryModel extends Model {
     public void onSlotSetEvent(SetSlotEvent.Post e) {
         // Only update if the container is the player inventory
         if (Objects.equals(e.getContainer(), McUtils.player().getInventory())) {
-            updateCache();
+            updateSlot(e.getSlot(), e.getItem());
         }
     }
 
     private void updateCache() {
-        InventoryMenu inventory = McUtils.inventoryMenu();
-        emeralds = ContainerUtils.getEmeraldCountInContainer(inventory);
-        openSlots = InventoryUtils.getEmptySlots(McUtils.inventory());
+        InventoryMenu inventoryMenu = McUtils.inventoryMenu();
+        Inventory inventory = McUtils.inventory();
+
+        slotEmeralds = new int[inventoryMenu.slots.size()];
+        menuSlots = new int[inventory.getContainerSize()];
+        Arrays.fill(menuSlots, -1);
+
+        emeralds = 0;
+        for (Slot slot : inventoryMenu.slots) {
+            int slotValue = ContainerUtils.getEmeraldValue(slot.getItem());
+            slotEmeralds[slot.index] = slotValue;
+            emeralds += slotValue;
+
+            if (slot.container == inventory) {
+                menuSlots[slot.getContainerSlot()] = slot.index;
+            }
+        }
+
+        openSlots = 0;
+        for (int i = 0; i < emptySlots.length; i++) {
+            emptySlots[i] = inventory.items.get(i).isEmpty();
+            if (emptySlots[i]) openSlots++;
+        }
+    }
+
+    private void updateSlot(int slot, ItemStack itemStack) {
+        if (slot < 0 || slot >= menuSlots.length) {
+            // Not set up yet, or a slot we don't know about
+            updateCache();
+            return;
+        }
+
+        if (slot < emptySlots.length && emptySlots[slot] != itemStack.isEmpty()) {
+            emptySlots[slot] = itemStack.isEmpty();
+            openSlots += emptySlots[slot] ? 1 : -1;
+        }
+
+        int menuSlot = menuSlots[slot];
+        if (menuSlot == -1) return;
+
+        int slotValue = ContainerUtils.getEmeraldValue(itemStack);
+        emeralds += slotValue - slotEmeralds[menuSlot];
+        slotEmeralds[menuSlot] = slotValue;
     }
 
     private void resetCache() {
         emeralds = 0;
         openSlots = 0;
+        slotEmeralds = new int[0];
+        menuSlots = new int[0];
+        Arrays.fill(emptySlots, false);
     }
 
     public int getCurrentEmeraldCount() {
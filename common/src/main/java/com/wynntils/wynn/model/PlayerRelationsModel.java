@@ -10,7 +10,6 @@ import com.wynntils.core.components.Model;
 import com.wynntils.core.net.hades.event.HadesEvent;
 import com.wynntils.handlers.chat.MessageType;
 import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
-import com.wynntils.mc.utils.ComponentUtils;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.wynn.event.RelationsUpdateEvent;
 import com.wynntils.wynn.event.WorldStateEvent;
@@ -85,7 +84,7 @@ public final class PlayerRelationsModel extends Model {
         if (event.getMessageType() != MessageType.FOREGROUND) return;
 
         String coded = event.getOriginalCodedMessage();
-        String unformatted = ComponentUtils.stripFormatting(coded);
+        String unformatted = event.getOriginalUnformattedMessage();
 
         if (tryParseFriendMessages(coded)) {
             return;
@@ -4,55 +4,106 @@
  */
 package com.wynntils.wynn.model;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.net.ApiResponse;
 import com.wynntils.core.net.UrlId;
 import com.wynntils.mc.event.PlayerJoinedWorldEvent;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
 import com.wynntils.wynn.event.WorldStateEvent;
 import com.wynntils.wynn.objects.account.AccountType;
 import com.wynntils.wynn.objects.account.WynntilsUser;
 import com.wynntils.wynn.utils.WynnPlayerUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import org.apache.commons.io.FileUtils;
 
 public final class RemoteWynntilsUserInfoModel extends Model {
-    private final Map<UUID, WynntilsUser> users = new ConcurrentHashMap<>();
-    private final Set<UUID> fetching = ConcurrentHashMap.newKeySet();
+    private static final File USER_CACHE_FILE = new File(WynntilsMod.getModStorageDir("cache"), "users.json");
 
-    public void loadUser(UUID uuid) {
-        if (fetching.contains(uuid)) return;
+    // Account types rarely change, so rejoining the same lobby should not fetch them again
+    private static final long USER_TTL_MILLIS = TimeUnit.DAYS.toMillis(1);
 
-        fetching.add(uuid); // temporary, avoid extra loads
+    // Players entering a world show up in the tab list over several ticks, wait for them to settle
+    private static final long FETCH_WINDOW_MILLIS = 250;
 
-        ApiResponse apiResponse = Managers.Net.callApi(UrlId.API_ATHENA_USER_INFO, Map.of("uuid", uuid.toString()));
-        apiResponse.handleJsonObject(json -> {
-            if (!json.has("user")) return;
+    // Athena can only look up one user per request, so spread a full lobby over a few requests at a time
+    private static final int MAX_REQUESTS_IN_FLIGHT = 4;
 
-            JsonObject user = json.getAsJsonObject("user");
-            users.put(
-                    uuid,
-                    new WynntilsUser(AccountType.valueOf(user.get("accountType").getAsString())));
-            fetching.remove(uuid);
-        });
+    private static final long INITIAL_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(5);
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    // Users that still fail after this many attempts are left uncached, and looked up again when they next join
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_FOUND = 404;
+
+    private final Map<UUID, CachedUser> users = new ConcurrentHashMap<>();
+    // Users that are queued or being fetched
+    private final Set<UUID> fetching = ConcurrentHashMap.newKeySet();
+
+    // Fetch state, guarded by this
+    private final Deque<UUID> fetchQueue = new ArrayDeque<>();
+    private final Map<UUID, Integer> failedAttempts = new HashMap<>();
+    private int requestsInFlight = 0;
+    private boolean drainScheduled = false;
+    private int consecutiveFailures = 0;
+    private long backoffUntil = 0;
+
+    @Override
+    public void init() {
+        loadUserCache();
     }
 
-    public WynntilsUser getUser(UUID uuid) {
-        return users.getOrDefault(uuid, null);
+    @Override
+    public void disable() {
+        TaskUtils.runAsync(TaskLane.IO, this::saveUserCache);
+    }
+
+    public void loadUser(UUID uuid) {
+        CachedUser cachedUser = users.get(uuid);
+        if (cachedUser != null && !cachedUser.isExpired()) return;
+
+        if (!fetching.add(uuid)) return;
+
+        synchronized (this) {
+            fetchQueue.add(uuid);
+            scheduleDrain(FETCH_WINDOW_MILLIS);
+        }
     }
 
-    private void clearUserCache() {
-        users.clear();
+    public WynntilsUser getUser(UUID uuid) {
+        CachedUser cachedUser = users.get(uuid);
+        return cachedUser == null ? null : cachedUser.user();
     }
 
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
         switch (event.getNewState()) {
-            case NOT_CONNECTED, CONNECTING -> clearUserCache();
+            case NOT_CONNECTED -> {
+                cancelFetching();
+                TaskUtils.runAsync(TaskLane.IO, this::saveUserCache);
+            }
+            case CONNECTING -> cancelFetching();
         }
     }
 
@@ -64,4 +115,164 @@ public final class RemoteWynntilsUserInfoModel extends Model {
 
         loadUser(event.getPlayerId());
     }
+
+    private synchronized void cancelFetching() {
+        // Requests in flight will still finish, and be cached
+        fetchQueue.forEach(fetching::remove);
+        fetchQueue.clear();
+        failedAttempts.clear();
+    }
+
+    private synchronized void scheduleDrain(long delayMillis) {
+        if (drainScheduled) return;
+
+        drainScheduled = true;
+        long delay = Math.max(delayMillis, backoffUntil - System.currentTimeMillis());
+        TaskUtils.runLater(this::drainQueue, delay);
+    }
+
+    private synchronized void drainQueue() {
+        drainScheduled = false;
+
+        while (requestsInFlight < MAX_REQUESTS_IN_FLIGHT && !fetchQueue.isEmpty()) {
+            UUID uuid = fetchQueue.poll();
+            requestsInFlight++;
+
+            ApiResponse apiResponse =
+                    Managers.Net.callApi(UrlId.API_ATHENA_USER_INFO, Map.of("uuid", uuid.toString()));
+            apiResponse.handleStatusAndReader(
+                    (statusCode, reader) -> {
+                        // Only a user object or a not found status is an answer, everything else is retried
+                        if (statusCode == HTTP_NOT_FOUND) {
+                            onUserFetched(uuid, null);
+                            return;
+                        }
+                        if (statusCode != HTTP_OK) {
+                            onFetchFailed(uuid, new IOException("Unexpected status code " + statusCode));
+                            return;
+                        }
+
+                        JsonObject json;
+                        try {
+                            json = JsonParser.parseReader(reader).getAsJsonObject();
+                        } catch (JsonParseException | IllegalStateException e) {
+                            onFetchFailed(uuid, e);
+                            return;
+                        }
+                        if (!json.has("user")) {
+                            onFetchFailed(uuid, new IOException("Response without a user: " + json));
+                            return;
+                        }
+
+                        onUserFetched(uuid, parseUser(uuid, json.getAsJsonObject("user")));
+                    },
+                    e -> onFetchFailed(uuid, e));
+        }
+    }
+
+    private WynntilsUser parseUser(UUID uuid, JsonObject userJson) {
+        try {
+            return new WynntilsUser(AccountType.valueOf(userJson.get("accountType").getAsString()));
+        } catch (RuntimeException e) {
+            WynntilsMod.warn("Unknown account type for user " + uuid, e);
+            return new WynntilsUser(AccountType.NORMAL);
+        }
+    }
+
+    /** Caches the answer for the user, where a null user means the player has no Wynntils account */
+    private synchronized void onUserFetched(UUID uuid, WynntilsUser user) {
+        requestsInFlight--;
+        consecutiveFailures = 0;
+        fetching.remove(uuid);
+        failedAttempts.remove(uuid);
+
+        users.put(uuid, new CachedUser(user, System.currentTimeMillis()));
+
+        onRequestFinished();
+    }
+
+    private synchronized void onFetchFailed(UUID uuid, Throwable throwable) {
+        requestsInFlight--;
+        consecutiveFailures++;
+
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(consecutiveFailures - 1, 16));
+        backoffUntil = System.currentTimeMillis() + backoff;
+
+        int attempts = failedAttempts.merge(uuid, 1, Integer::sum);
+        if (attempts >= MAX_ATTEMPTS) {
+            WynntilsMod.warn("Failed to fetch user info for " + uuid + ", giving up", throwable);
+            fetching.remove(uuid);
+            failedAttempts.remove(uuid);
+        } else {
+            WynntilsMod.warn(
+                    "Failed to fetch user info for " + uuid + ", retrying in " + backoff / 1000 + " seconds",
+                    throwable);
+
+            // Still marked as fetching, unless fetching was cancelled in the meantime
+            if (fetching.contains(uuid)) {
+                fetchQueue.add(uuid);
+            }
+        }
+
+        onRequestFinished();
+    }
+
+    private synchronized void onRequestFinished() {
+        if (!fetchQueue.isEmpty()) {
+            scheduleDrain(0);
+        } else if (requestsInFlight == 0) {
+            TaskUtils.runAsync(TaskLane.IO, this::saveUserCache);
+        }
+    }
+
+    private void loadUserCache() {
+        if (!USER_CACHE_FILE.exists()) return;
+
+        try (Reader reader = Files.newBufferedReader(USER_CACHE_FILE.toPath(), StandardCharsets.UTF_8)) {
+            JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+            for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+                JsonObject userJson = entry.getValue().getAsJsonObject();
+                WynntilsUser user = userJson.has("accountType")
+                        ? new WynntilsUser(AccountType.valueOf(userJson.get("accountType").getAsString()))
+                        : null;
+                CachedUser cachedUser = new CachedUser(user, userJson.get("fetched").getAsLong());
+                if (cachedUser.isExpired()) continue;
+
+                users.putIfAbsent(UUID.fromString(entry.getKey()), cachedUser);
+            }
+        } catch (IOException | RuntimeException e) {
+            WynntilsMod.warn("Failed to load the user info cache", e);
+        }
+    }
+
+    private void saveUserCache() {
+        // Saves can run in parallel, so an older snapshot must not be written after a newer one
+        synchronized (USER_CACHE_FILE) {
+            JsonObject json = new JsonObject();
+            for (Map.Entry<UUID, CachedUser> entry : users.entrySet()) {
+                CachedUser cachedUser = entry.getValue();
+                if (cachedUser.isExpired()) continue;
+
+                JsonObject userJson = new JsonObject();
+                if (cachedUser.user() != null) {
+                    userJson.addProperty("accountType", cachedUser.user().accountType().name());
+                }
+                userJson.addProperty("fetched", cachedUser.fetched());
+                json.add(entry.getKey().toString(), userJson);
+            }
+
+            try {
+                FileUtils.writeStringToFile(USER_CACHE_FILE, json.toString(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                WynntilsMod.warn("Failed to save the user info cache", e);
+            }
+        }
+    }
+
+    /** A looked up user, where a null user means the player has no Wynntils account */
+    private record CachedUser(WynntilsUser user, long fetched) {
+        private boolean isExpired() {
+            return System.currentTimeMillis() - fetched > USER_TTL_MILLIS;
+        }
+    }
 }
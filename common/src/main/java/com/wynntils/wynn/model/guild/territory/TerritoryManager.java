@@ -7,6 +7,7 @@ package com.wynntils.wynn.model.guild.territory;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Manager;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.net.Download;
@@ -14,6 +15,8 @@ import com.wynntils.core.net.NetManager;
 import com.wynntils.core.net.UrlId;
 import com.wynntils.mc.event.AdvancementUpdateEvent;
 import com.wynntils.mc.utils.ComponentUtils;
+import com.wynntils.utils.TaskUtils;
+import com.wynntils.wynn.event.TerritoriesChangedEvent;
 import com.wynntils.wynn.model.guild.territory.objects.TerritoryInfo;
 import com.wynntils.wynn.model.map.TerritoryDefenseFilterType;
 import com.wynntils.wynn.model.map.poi.Poi;
@@ -25,10 +28,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,13 +52,12 @@ public final class TerritoryManager extends Manager {
     private Map<String, TerritoryProfile> territoryProfileMap = new HashMap<>();
 
     // This is just a cache of TerritoryPois created for all territoryProfileMap values
+    private Map<String, TerritoryPoi> territoryProfilePoiMap = new HashMap<>();
     private Set<TerritoryPoi> allTerritoryPois = new HashSet<>();
 
-    private final ScheduledExecutorService timerExecutor = new ScheduledThreadPoolExecutor(1);
-
     public TerritoryManager(NetManager netManager) {
         super(List.of(netManager));
-        timerExecutor.scheduleWithFixedDelay(
+        TaskUtils.scheduleWithFixedDelay(
                 this::updateTerritoryProfileMap, 0, TERRITORY_UPDATE_MS, TimeUnit.MILLISECONDS);
     }
 
@@ -147,14 +148,62 @@ public final class TerritoryManager extends Manager {
         // level = 1 is also injected.
 
         Download dl = Managers.Net.download(UrlId.DATA_ATHENA_TERRITORY_LIST);
+        if (!territoryProfileMap.isEmpty()) {
+            // We already have the cached list parsed, so there is nothing to do if it is unchanged
+            dl.skipIfNotModified();
+        }
         dl.handleJsonObject(json -> {
             if (!json.has("territories")) return;
 
             Type type = new TypeToken<HashMap<String, TerritoryProfile>>() {}.getType();
-            territoryProfileMap = TERRITORY_PROFILE_GSON.fromJson(json.get("territories"), type);
-            allTerritoryPois =
-                    territoryProfileMap.values().stream().map(TerritoryPoi::new).collect(Collectors.toSet());
-            // TODO: Add events if territories changed
+            Map<String, TerritoryProfile> newProfileMap =
+                    TERRITORY_PROFILE_GSON.fromJson(json.get("territories"), type);
+            updateTerritoryProfiles(newProfileMap);
         });
     }
+
+    private void updateTerritoryProfiles(Map<String, TerritoryProfile> newProfileMap) {
+        Map<String, TerritoryProfile> oldProfileMap = territoryProfileMap;
+        Map<String, TerritoryPoi> newPoiMap = new HashMap<>();
+        List<TerritoryProfile> changedTerritories = new ArrayList<>();
+
+        for (Map.Entry<String, TerritoryProfile> entry : newProfileMap.entrySet()) {
+            TerritoryProfile oldProfile = oldProfileMap.get(entry.getKey());
+            TerritoryPoi oldPoi = territoryProfilePoiMap.get(entry.getKey());
+
+            if (oldProfile != null && oldPoi != null && !hasChanged(oldProfile, entry.getValue())) {
+                // Keep the old profile as well, so profiles and POIs stay consistent
+                entry.setValue(oldProfile);
+                newPoiMap.put(entry.getKey(), oldPoi);
+                continue;
+            }
+
+            newPoiMap.put(entry.getKey(), new TerritoryPoi(entry.getValue()));
+            changedTerritories.add(entry.getValue());
+        }
+
+        Set<String> removedTerritories = new HashSet<>(oldProfileMap.keySet());
+        removedTerritories.removeAll(newProfileMap.keySet());
+
+        territoryProfileMap = newProfileMap;
+        territoryProfilePoiMap = newPoiMap;
+        allTerritoryPois = new HashSet<>(newPoiMap.values());
+
+        if (!changedTerritories.isEmpty() || !removedTerritories.isEmpty()) {
+            WynntilsMod.postEvent(new TerritoriesChangedEvent(changedTerritories, removedTerritories));
+        }
+    }
+
+    private static boolean hasChanged(TerritoryProfile oldProfile, TerritoryProfile newProfile) {
+        return !Objects.equals(oldProfile.getGuild(), newProfile.getGuild())
+                || !Objects.equals(oldProfile.getGuildPrefix(), newProfile.getGuildPrefix())
+                || !Objects.equals(oldProfile.getGuildColor(), newProfile.getGuildColor())
+                || !Objects.equals(oldProfile.getAttacker(), newProfile.getAttacker())
+                || !Objects.equals(oldProfile.getAcquired(), newProfile.getAcquired())
+                || oldProfile.getLevel() != newProfile.getLevel()
+                || oldProfile.getStartX() != newProfile.getStartX()
+                || oldProfile.getStartZ() != newProfile.getStartZ()
+                || oldProfile.getEndX() != newProfile.getEndX()
+                || oldProfile.getEndZ() != newProfile.getEndZ();
+    }
 }
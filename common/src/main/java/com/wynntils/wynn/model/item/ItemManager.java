@@ -6,38 +6,118 @@ package com.wynntils.wynn.model.item;
 
 import com.wynntils.core.components.Manager;
 import com.wynntils.core.components.Managers;
+import com.wynntils.mc.utils.ComponentUtils;
+import com.wynntils.utils.SearchIndex;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
+import com.wynntils.wynn.event.ItemProfilesLoadedEvent;
 import com.wynntils.wynn.item.GearItemStack;
 import com.wynntils.wynn.item.IngredientItemStack;
 import com.wynntils.wynn.model.ItemProfilesManager;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 public class ItemManager extends Manager {
-
-    private List<GearItemStack> allGearItems = List.of();
-    private List<IngredientItemStack> allIngredientItems = List.of();
+    // Building the stacks of all items takes a while, so it is done in the background as soon as the profiles are
+    // loaded. Asking for them before that builds them right away, like before.
+    private SearchIndex<GearItemStack> gearItems = null;
+    private ItemStatIndex gearStats = null;
+    private SearchIndex<IngredientItemStack> ingredientItems = null;
 
     public ItemManager(ItemProfilesManager itemProfilesManager) {
         super(List.of(itemProfilesManager));
     }
 
+    @SubscribeEvent
+    public void onItemProfilesLoaded(ItemProfilesLoadedEvent.Items event) {
+        synchronized (this) {
+            gearItems = null;
+        }
+        TaskUtils.runAsync(TaskLane.CPU, this::getGearSearchIndex);
+    }
+
+    @SubscribeEvent
+    public void onIngredientProfilesLoaded(ItemProfilesLoadedEvent.Ingredients event) {
+        synchronized (this) {
+            ingredientItems = null;
+        }
+        TaskUtils.runAsync(TaskLane.CPU, this::getIngredientSearchIndex);
+    }
+
     public List<IngredientItemStack> getAllIngredientItems() {
-        if (allIngredientItems.isEmpty()) {
-            allIngredientItems = Managers.ItemProfiles.getIngredientsCollection().stream()
-                    .map(IngredientItemStack::new)
-                    .toList();
+        return getIngredientSearchIndex().getElements();
+    }
+
+    /** The stacks of all ingredients, which can be searched by their name */
+    public synchronized SearchIndex<IngredientItemStack> getIngredientSearchIndex() {
+        if (ingredientItems == null || ingredientItems.getElements().isEmpty()) {
+            ingredientItems = new SearchIndex<>(
+                    Managers.ItemProfiles.getIngredientsCollection().stream()
+                            .map(IngredientItemStack::new)
+                            .toList(),
+                    ItemManager::getSearchName);
         }
 
-        return allIngredientItems;
+        return ingredientItems;
     }
 
     public List<GearItemStack> getAllGearItems() {
-        if (allGearItems.isEmpty()) {
+        return getGearSearchIndex().getElements();
+    }
+
+    /** The stacks of all gear items, which can be searched by their name */
+    public synchronized SearchIndex<GearItemStack> getGearSearchIndex() {
+        if (gearItems == null || gearItems.getElements().isEmpty()) {
             // Populate list
-            allGearItems = Managers.ItemProfiles.getItemsCollection().stream()
-                    .map(GearItemStack::new)
-                    .toList();
+            gearItems = new SearchIndex<>(
+                    Managers.ItemProfiles.getItemsCollection().stream()
+                            .map(GearItemStack::new)
+                            .toList(),
+                    ItemManager::getSearchName);
+            gearStats = new ItemStatIndex(gearItems.getElements().stream()
+                    .map(GearItemStack::getItemProfile)
+                    .toList());
         }
 
-        return allGearItems;
+        return gearItems;
     }
+
+    /** The lowercase names of all stats gear items can be queried by */
+    public synchronized Set<String> getGearStatNames() {
+        getGearSearchIndex();
+        return gearStats.getStatNames();
+    }
+
+    /** Returns the gear items matching both the stat filters and the name search of the query, in its order */
+    public GearQueryResult queryGearItems(ItemStatQuery query) {
+        // Both indexes are replaced together when the item list is reloaded, so take them together
+        SearchIndex<GearItemStack> searchIndex;
+        ItemStatIndex statIndex;
+        synchronized (this) {
+            searchIndex = getGearSearchIndex();
+            statIndex = gearStats;
+        }
+
+        int[] rows = statIndex.evaluate(query, searchIndex.partialMatchIndices(query.getSearchText()));
+
+        List<GearItemStack> elements = searchIndex.getElements();
+        List<GearItemStack> items = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            items.add(elements.get(row));
+        }
+        return new GearQueryResult(items, rows, statIndex);
+    }
+
+    public static String getSearchName(ItemStack itemStack) {
+        return ComponentUtils.getUnformatted(itemStack.getHoverName());
+    }
+
+    /**
+     * The items matching a query. The rows are the rows of the items in the stat index, which is the index the query
+     * was evaluated with, so the stats of the items can be read from it even if the item list was reloaded since.
+     */
+    public record GearQueryResult(List<GearItemStack> items, int[] rows, ItemStatIndex statIndex) {}
 }
@@ -7,39 +7,98 @@ package com.wynntils.wynn.model.item;
 import com.wynntils.core.components.Manager;
 import com.wynntils.mc.event.ContainerSetContentEvent;
 import com.wynntils.mc.event.SetSlotEvent;
+import com.wynntils.wynn.event.ItemProfilesLoadedEvent;
 import com.wynntils.wynn.item.WynnItemStack;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 
 public final class ItemStackTransformManager extends Manager {
+    // Enough for a full bank page plus the inventory many times over
+    private static final int PARSE_CACHE_SIZE = 1024;
+
     private final Set<ItemStackTransformer> transformers = ConcurrentHashMap.newKeySet();
     private final Set<ItemPropertyWriter> properties = ConcurrentHashMap.newKeySet();
 
+    // Wynncraft resends the same items all the time, so remember what each item content was parsed into.
+    // The cached stacks never leave the cache, only copies of them do. An empty value means no transformation.
+    private final Map<ParseCacheKey, Optional<WynnItemStack>> parseCache =
+            new LinkedHashMap<>(PARSE_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ParseCacheKey, Optional<WynnItemStack>> eldest) {
+                    return size() > PARSE_CACHE_SIZE;
+                }
+            };
+    private long parseCacheHits = 0;
+    private long parseCacheMisses = 0;
+
     public ItemStackTransformManager() {
         super(List.of());
     }
 
     public void registerTransformer(ItemStackTransformer transformer) {
         transformers.add(transformer);
+        invalidateCache();
     }
 
     public void unregisterTransformer(ItemStackTransformer transformer) {
         transformers.remove(transformer);
+        invalidateCache();
     }
 
     public void registerProperty(ItemPropertyWriter writer) {
         properties.add(writer);
+        invalidateCache();
     }
 
     public void unregisterProperty(ItemPropertyWriter writer) {
         properties.remove(writer);
+        invalidateCache();
+    }
+
+    /**
+     * Forgets all parsed items. Must be called whenever something that affects parsing changes, like the config of a
+     * feature that the item stacks read.
+     */
+    public void invalidateCache() {
+        synchronized (parseCache) {
+            parseCache.clear();
+        }
+    }
+
+    public synchronized long getCacheHits() {
+        return parseCacheHits;
+    }
+
+    public synchronized long getCacheMisses() {
+        return parseCacheMisses;
+    }
+
+    public double getCacheHitRate() {
+        long hits = getCacheHits();
+        long total = hits + getCacheMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @SubscribeEvent
+    public void onItemProfilesLoaded(ItemProfilesLoadedEvent.Items event) {
+        invalidateCache();
+    }
+
+    @SubscribeEvent
+    public void onIngredientProfilesLoaded(ItemProfilesLoadedEvent.Ingredients event) {
+        invalidateCache();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
@@ -53,6 +112,49 @@ public final class ItemStackTransformManager extends Manager {
     }
 
     private ItemStack transformItem(ItemStack stack) {
+        ParseCacheKey key = new ParseCacheKey(stack.getItem(), stack.getCount(), stack.getTag());
+        Optional<WynnItemStack> cached;
+        synchronized (parseCache) {
+            cached = parseCache.get(key);
+        }
+
+        if (cached != null) {
+            recordCacheLookup(true);
+            return cached.isPresent() ? cached.get().copyParsed() : stack;
+        }
+        recordCacheLookup(false);
+
+        // Copy the tag, so later changes to the stack can't change the stored key
+        if (key.tag() != null) {
+            key = new ParseCacheKey(key.item(), key.count(), key.tag().copy());
+        }
+
+        ItemStack transformed = parseItem(stack);
+        if (transformed instanceof WynnItemStack wynnItemStack) {
+            // Never stored, so the stack can be handed out as it is
+            if (!wynnItemStack.isCacheable()) return wynnItemStack;
+
+            synchronized (parseCache) {
+                parseCache.put(key, Optional.of(wynnItemStack));
+            }
+            return wynnItemStack.copyParsed();
+        }
+
+        synchronized (parseCache) {
+            parseCache.put(key, Optional.empty());
+        }
+        return transformed;
+    }
+
+    private synchronized void recordCacheLookup(boolean hit) {
+        if (hit) {
+            parseCacheHits++;
+        } else {
+            parseCacheMisses++;
+        }
+    }
+
+    private ItemStack parseItem(ItemStack stack) {
         // itemstack transformers
         for (ItemStackTransformer t : transformers) {
             if (t.test(stack)) {
@@ -77,6 +179,9 @@ public final class ItemStackTransformManager extends Manager {
         return stack;
     }
 
+    /** Identifies the content of an item stack; the damage of an item is part of its tag */
+    private record ParseCacheKey(Item item, int count, CompoundTag tag) {}
+
     public static class ItemStackTransformer {
         private final Predicate<ItemStack> predicate;
         private final Function<ItemStack, WynnItemStack> transformer;
@@ -0,0 +1,175 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.model.item;
+
+import com.wynntils.wynn.objects.profiles.item.IdentificationProfile;
+import com.wynntils.wynn.objects.profiles.item.ItemProfile;
+import com.wynntils.wynn.objects.profiles.item.ItemTier;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntComparator;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Evaluates {@link ItemStatQuery}s over a fixed list of items.
+ *
+ * <p>Every stat is kept as a column with its value for every item, so a filter is a loop over one int array instead
+ * of looking up the stat in the profile of every item. This is fast enough to evaluate a query on every keystroke.
+ */
+public final class ItemStatIndex {
+    public static final String LEVEL = "level";
+    public static final String TIER = "tier";
+    public static final String HEALTH = "health";
+
+    public static final int NO_TIER_RANK = -1;
+
+    private static final String MIN_SUFFIX = ".min";
+    private static final String MAX_SUFFIX = ".max";
+
+    private final int size;
+    private final Map<String, Column> columns = new HashMap<>();
+
+    public ItemStatIndex(List<ItemProfile> profiles) {
+        size = profiles.size();
+
+        int[] levels = new int[size];
+        int[] health = new int[size];
+        Column tiers = getOrCreateColumn(TIER);
+
+        for (int i = 0; i < size; i++) {
+            ItemProfile profile = profiles.get(i);
+            levels[i] = profile.getLevelRequirement();
+            health[i] = profile.getHealth();
+
+            int tierRank = getTierRank(profile.getTier());
+            if (tierRank != NO_TIER_RANK) {
+                tiers.set(i, tierRank);
+            }
+
+            for (Map.Entry<String, IdentificationProfile> entry : profile.getStatuses().entrySet()) {
+                String name = entry.getKey().toLowerCase(Locale.ROOT);
+                getOrCreateColumn(name + MIN_SUFFIX).set(i, entry.getValue().getMin());
+                getOrCreateColumn(name + MAX_SUFFIX).set(i, entry.getValue().getMax());
+            }
+        }
+
+        columns.put(LEVEL, Column.ofAll(levels));
+        columns.put(HEALTH, Column.ofAll(health));
+    }
+
+    /**
+     * Returns the rank of the tier by rarity, which is what the tier stat is compared by. Crafted items are not on
+     * this scale, so they have no rank and never match a tier filter.
+     */
+    public static int getTierRank(ItemTier tier) {
+        return switch (tier) {
+            case NORMAL -> 0;
+            case UNIQUE -> 1;
+            case RARE -> 2;
+            case SET -> 3;
+            case LEGENDARY -> 4;
+            case FABLED -> 5;
+            case MYTHIC -> 6;
+            case CRAFTED -> NO_TIER_RANK;
+        };
+    }
+
+    /**
+     * Returns the indices of the candidates which match all filters of the query, in the order of the query.
+     * Items without a filtered stat never match, and items without the sorted stat are sorted last.
+     */
+    public int[] evaluate(ItemStatQuery query, BitSet candidates) {
+        BitSet matches = (BitSet) candidates.clone();
+
+        for (ItemStatQuery.Filter filter : query.getFilters()) {
+            Column column = getColumn(filter.stat());
+            if (column == null) return new int[0];
+
+            matches.and(column.present());
+
+            int[] values = column.values();
+            int min = filter.min();
+            int max = filter.max();
+            for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+                if (values[i] < min || values[i] > max) {
+                    matches.clear(i);
+                }
+            }
+        }
+
+        int[] result = matches.stream().toArray();
+
+        Column sortColumn = query.getSortStat() == null ? null : getColumn(query.getSortStat());
+        if (sortColumn != null) {
+            int[] values = sortColumn.values();
+            BitSet present = sortColumn.present();
+            boolean ascending = query.isSortAscending();
+
+            IntComparator comparator = (a, b) -> {
+                boolean hasA = present.get(a);
+                if (hasA != present.get(b)) return hasA ? -1 : 1;
+
+                return ascending ? Integer.compare(values[a], values[b]) : Integer.compare(values[b], values[a]);
+            };
+            // Merge sort is stable, so items with the same value stay in their usual order
+            IntArrays.mergeSort(result, comparator);
+        }
+
+        return result;
+    }
+
+    /** Returns the value of the stat for the item, or null if the item does not have the stat */
+    public Integer getValue(String stat, int index) {
+        Column column = getColumn(stat);
+        if (column == null || !column.present().get(index)) return null;
+
+        return column.values()[index];
+    }
+
+    public boolean hasStat(String stat) {
+        return getColumn(stat) != null;
+    }
+
+    /** The lowercase names of all stats, with identifications listed by their name only */
+    public Set<String> getStatNames() {
+        Set<String> names = new TreeSet<>();
+        for (String name : columns.keySet()) {
+            names.add(name.endsWith(MIN_SUFFIX) || name.endsWith(MAX_SUFFIX)
+                    ? name.substring(0, name.length() - MAX_SUFFIX.length())
+                    : name);
+        }
+        return names;
+    }
+
+    private Column getColumn(String stat) {
+        Column column = columns.get(stat);
+        if (column != null) return column;
+
+        // Identifications are compared by their max value by default
+        return columns.get(stat + MAX_SUFFIX);
+    }
+
+    private Column getOrCreateColumn(String name) {
+        return columns.computeIfAbsent(name, k -> new Column(new int[size], new BitSet(size)));
+    }
+
+    private record Column(int[] values, BitSet present) {
+        private static Column ofAll(int[] values) {
+            BitSet present = new BitSet(values.length);
+            present.set(0, values.length);
+            return new Column(values, present);
+        }
+
+        private void set(int index, int value) {
+            values[index] = value;
+            present.set(index);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.model.item;
+
+import com.wynntils.wynn.objects.profiles.item.ItemTier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A search over the stats of items, evaluated by {@link ItemStatIndex}.
+ *
+ * <p>A query is a list of words. Words like {@code level:80-100}, {@code spellDamage>=20}, {@code tier>=legendary}
+ * or {@code sort:walkSpeed} are filters and sort orders, all other words search the item names. Identifications
+ * are compared by their maximum value, unless {@code .min} is added to their name. Items are sorted by the highest
+ * value first, unless the stat is prefixed with {@code +}.
+ */
+public final class ItemStatQuery {
+    private static final Pattern FILTER_PATTERN = Pattern.compile("^([a-zA-Z][a-zA-Z0-9.]*)(>=|<=|>|<|=|:)(.*)$");
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^(-?\\w+)-(-?\\w+)$");
+
+    private static final String SORT_KEYWORD = "sort";
+
+    private final List<Filter> filters;
+    private final String sortStat;
+    private final boolean sortAscending;
+    private final String searchText;
+    private final List<String> errors;
+
+    private ItemStatQuery(
+            List<Filter> filters, String sortStat, boolean sortAscending, String searchText, List<String> errors) {
+        this.filters = filters;
+        this.sortStat = sortStat;
+        this.sortAscending = sortAscending;
+        this.searchText = searchText;
+        this.errors = errors;
+    }
+
+    public static ItemStatQuery parse(String query) {
+        List<Filter> filters = new ArrayList<>();
+        String sortStat = null;
+        boolean sortAscending = false;
+        List<String> searchWords = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        String[] words = query.strip().split("\\s+");
+        for (String word : words) {
+            Matcher matcher = FILTER_PATTERN.matcher(word);
+            if (!matcher.matches()) {
+                searchWords.add(word);
+                continue;
+            }
+
+            String stat = getStatName(matcher.group(1));
+            String operator = matcher.group(2);
+            String value = matcher.group(3);
+
+            if (value.isEmpty()) {
+                errors.add("Missing value for " + matcher.group(1));
+                continue;
+            }
+
+            if (stat.equals(SORT_KEYWORD)) {
+                sortAscending = value.startsWith("+");
+                sortStat = getStatName(value.replaceFirst("^[+-]", ""));
+                continue;
+            }
+
+            Filter filter = parseFilter(stat, operator, value);
+            if (filter == null) {
+                errors.add("Invalid value " + value + " for " + matcher.group(1));
+                continue;
+            }
+
+            filters.add(filter);
+        }
+
+        // Keep the search term as it was typed when there are no filters, so name searches behave as before
+        String searchText = searchWords.size() == words.length ? query : String.join(" ", searchWords);
+
+        return new ItemStatQuery(List.copyOf(filters), sortStat, sortAscending, searchText, List.copyOf(errors));
+    }
+
+    private static Filter parseFilter(String stat, String operator, String value) {
+        if (operator.equals(":")) {
+            Matcher rangeMatcher = RANGE_PATTERN.matcher(value);
+            if (rangeMatcher.matches()) {
+                Integer min = parseValue(stat, rangeMatcher.group(1));
+                Integer max = parseValue(stat, rangeMatcher.group(2));
+                if (min == null || max == null) return null;
+
+                return new Filter(stat, min, max);
+            }
+        }
+
+        Integer bound = parseValue(stat, value);
+        if (bound == null) return null;
+
+        return switch (operator) {
+            case ">=" -> new Filter(stat, bound, Integer.MAX_VALUE);
+            // No value is above the largest or below the smallest int, so these match nothing
+            case ">" -> bound == Integer.MAX_VALUE ? Filter.none(stat) : new Filter(stat, bound + 1, Integer.MAX_VALUE);
+            case "<=" -> new Filter(stat, Integer.MIN_VALUE, bound);
+            case "<" -> bound == Integer.MIN_VALUE ? Filter.none(stat) : new Filter(stat, Integer.MIN_VALUE, bound - 1);
+            default -> new Filter(stat, bound, bound);
+        };
+    }
+
+    private static Integer parseValue(String stat, String value) {
+        if (stat.equals(ItemStatIndex.TIER)) {
+            try {
+                int tierRank = ItemStatIndex.getTierRank(ItemTier.valueOf(value.toUpperCase(Locale.ROOT)));
+                return tierRank == ItemStatIndex.NO_TIER_RANK ? null : tierRank;
+            } catch (IllegalArgumentException ignored) {
+                // Not a tier name, tiers can also be given by their rank
+            }
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String getStatName(String name) {
+        String stat = name.toLowerCase(Locale.ROOT);
+        return switch (stat) {
+            case "lvl" -> ItemStatIndex.LEVEL;
+            case "hp" -> ItemStatIndex.HEALTH;
+            default -> stat;
+        };
+    }
+
+    public List<Filter> getFilters() {
+        return filters;
+    }
+
+    /** The lowercase name of the stat to sort by, or null to keep the items in their usual order */
+    public String getSortStat() {
+        return sortStat;
+    }
+
+    public boolean isSortAscending() {
+        return sortAscending;
+    }
+
+    /** The part of the query which searches the item names */
+    public String getSearchText() {
+        return searchText;
+    }
+
+    /** Words which looked like filters but could not be parsed, they are left out of the query */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /** Matches items whose lowercase stat is between min and max, inclusive */
+    public record Filter(String stat, int min, int max) {
+        private static Filter none(String stat) {
+            return new Filter(stat, 0, -1);
+        }
+    }
+}
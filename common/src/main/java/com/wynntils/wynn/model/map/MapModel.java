@@ -11,28 +11,37 @@ import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Model;
 import com.wynntils.core.net.Download;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.mc.utils.McUtils;
 import com.wynntils.utils.BoundingBox;
 import com.wynntils.wynn.model.map.poi.CombatKind;
 import com.wynntils.wynn.model.map.poi.CombatPoi;
 import com.wynntils.wynn.model.map.poi.Label;
 import com.wynntils.wynn.model.map.poi.LabelPoi;
+import com.wynntils.wynn.model.map.poi.Poi;
 import com.wynntils.wynn.model.map.poi.PoiLocation;
 import com.wynntils.wynn.model.map.poi.ServiceKind;
 import com.wynntils.wynn.model.map.poi.ServicePoi;
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 public final class MapModel extends Model {
-    private final List<MapTexture> maps = new CopyOnWriteArrayList<>();
+    private final List<MapTile> tiles = new CopyOnWriteArrayList<>();
+    private final MapTextureCache textureCache = new MapTextureCache();
     private final Set<LabelPoi> labelPois = new HashSet<>();
     private final Set<ServicePoi> servicePois = new HashSet<>();
     private final Set<CombatPoi> combatPois = new HashSet<>();
 
+    // Spatial index over all static POI sets, rebuilt whenever one of them finishes loading
+    private volatile PoiGrid staticPoiGrid = new PoiGrid(List.of());
+
     @Override
     public void init() {
         loadData();
@@ -61,12 +70,56 @@ public final class MapModel extends Model {
         return combatPois;
     }
 
-    public List<MapTexture> getMapsForBoundingBox(BoundingBox box) {
-        return maps.stream().filter(map -> box.intersects(map.getBox())).toList();
+    /**
+     * Returns all label, service and combat POIs located within the box that pass the filter.
+     * Callers should grow the box by the largest POI size they render, so POIs centered just
+     * outside of it are still found.
+     */
+    public List<Poi> queryPois(BoundingBox box, Predicate<Poi> filter) {
+        List<Poi> result = new ArrayList<>();
+        staticPoiGrid.query(box, filter, result);
+        return result;
+    }
+
+    private synchronized <T extends Poi> void addStaticPois(Set<T> pois, List<T> newPois) {
+        pois.addAll(newPois);
+        rebuildPoiGrid();
+    }
+
+    private void rebuildPoiGrid() {
+        List<Poi> staticPois = new ArrayList<>(labelPois);
+        staticPois.addAll(servicePois);
+        staticPois.addAll(combatPois);
+
+        staticPoiGrid = new PoiGrid(staticPois);
+    }
+
+    /**
+     * Returns the map tiles within the box, at the detail level fitting the scale, which is the number of blocks per
+     * gui pixel
+     */
+    public List<MapTexture> getMapsForBoundingBox(BoundingBox box, float scale) {
+        // A tile image only needs about as many pixels as it covers on screen
+        double blocksPerPixel = scale / McUtils.window().getGuiScale();
+        int detailLevel = 0;
+        while (detailLevel < MapTile.DETAIL_LEVELS - 1 && blocksPerPixel >= 2 << detailLevel) {
+            detailLevel++;
+        }
+
+        List<MapTexture> maps = new ArrayList<>();
+        for (MapTile tile : tiles) {
+            if (box.intersects(tile.getBox())) {
+                maps.add(tile.getTexture(detailLevel));
+            }
+        }
+        return maps;
     }
 
     private void loadMaps() {
-        maps.clear();
+        List<MapTexture> oldTextures = new ArrayList<>();
+        tiles.forEach(tile -> oldTextures.addAll(tile.getTextures()));
+        tiles.clear();
+        textureCache.dispose(oldTextures);
 
         Download dl = Managers.Net.download(UrlId.DATA_STATIC_MAPS);
         dl.handleReader(reader -> {
@@ -74,16 +127,21 @@ public final class MapModel extends Model {
 
             List<MapPartProfile> mapPartList = WynntilsMod.GSON.fromJson(reader, type);
             for (MapPartProfile mapPart : mapPartList) {
+                // Parts are only decoded once, to split them into tiles, which are then loaded when needed
+                File tileDir = Managers.Net.getCacheFile("maps/tiles/" + mapPart.md5);
+                if (MapTile.hasTileImages(tileDir)) {
+                    addTiles(mapPart, tileDir);
+                    continue;
+                }
+
                 String fileName = mapPart.md5 + ".png";
 
                 Download dlPart = Managers.Net.download(URI.create(mapPart.url), "maps/" + fileName, mapPart.md5);
                 dlPart.handleInputStream(
                         inputStream -> {
-                            try {
-                                NativeImage nativeImage = NativeImage.read(inputStream);
-                                MapTexture mapPartImage = new MapTexture(
-                                        fileName, nativeImage, mapPart.x1, mapPart.z1, mapPart.x2, mapPart.z2);
-                                maps.add(mapPartImage);
+                            try (NativeImage nativeImage = NativeImage.read(NativeImage.Format.RGBA, inputStream)) {
+                                MapTile.writeTileImages(nativeImage, tileDir);
+                                addTiles(mapPart, tileDir);
                             } catch (IOException e) {
                                 WynntilsMod.warn("IOException occurred while loading map image of " + mapPart.name, e);
                             }
@@ -94,13 +152,21 @@ public final class MapModel extends Model {
         });
     }
 
+    private void addTiles(MapPartProfile mapPart, File tileDir) {
+        tiles.addAll(MapTile.createTiles(
+                mapPart.md5, tileDir, textureCache, mapPart.x1, mapPart.z1, mapPart.x2, mapPart.z2));
+    }
+
     private void loadPlaces() {
         Download dl = Managers.Net.download(UrlId.DATA_STATIC_PLACES);
         dl.handleReader(reader -> {
             PlacesProfile places = WynntilsMod.GSON.fromJson(reader, PlacesProfile.class);
+            List<LabelPoi> newLabelPois = new ArrayList<>();
             for (Label label : places.labels) {
-                labelPois.add(new LabelPoi(label));
+                newLabelPois.add(new LabelPoi(label));
             }
+
+            addStaticPois(labelPois, newLabelPois);
         });
     }
 
@@ -110,16 +176,19 @@ public final class MapModel extends Model {
             Type type = new TypeToken<List<ServiceProfile>>() {}.getType();
 
             List<ServiceProfile> serviceList = WynntilsMod.GSON.fromJson(reader, type);
+            List<ServicePoi> newServicePois = new ArrayList<>();
             for (var service : serviceList) {
                 ServiceKind kind = ServiceKind.fromString(service.type);
                 if (kind != null) {
                     for (PoiLocation location : service.locations) {
-                        servicePois.add(new ServicePoi(location, kind));
+                        newServicePois.add(new ServicePoi(location, kind));
                     }
                 } else {
                     WynntilsMod.warn("Unknown service type in services.json: " + service.type);
                 }
             }
+
+            addStaticPois(servicePois, newServicePois);
         });
     }
 
@@ -129,16 +198,19 @@ public final class MapModel extends Model {
             Type type = new TypeToken<List<CombatProfileList>>() {}.getType();
 
             List<CombatProfileList> combatProfileLists = WynntilsMod.GSON.fromJson(reader, type);
+            List<CombatPoi> newCombatPois = new ArrayList<>();
             for (var combatList : combatProfileLists) {
                 CombatKind kind = CombatKind.fromString(combatList.type);
                 if (kind != null) {
                     for (CombatProfileList.CombatProfile profile : combatList.locations) {
-                        combatPois.add(new CombatPoi(profile.coordinates, profile.name, kind));
+                        newCombatPois.add(new CombatPoi(profile.coordinates, profile.name, kind));
                     }
                 } else {
                     WynntilsMod.warn("Unknown combat type in combat.json: " + combatList.type);
                 }
             }
+
+            addStaticPois(combatPois, newCombatPois);
         });
     }
 
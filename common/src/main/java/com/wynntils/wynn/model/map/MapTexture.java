@@ -5,16 +5,29 @@
 package com.wynntils.wynn.model.map;
 
 import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.wynntils.core.WynntilsMod;
 import com.wynntils.mc.utils.McUtils;
 import com.wynntils.utils.BoundingBox;
+import com.wynntils.utils.TaskLane;
+import com.wynntils.utils.TaskUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import net.minecraft.client.renderer.texture.DynamicTexture;
 import net.minecraft.resources.ResourceLocation;
 
+/**
+ * A single tile of the map at a single detail level. The image is only read from disk and uploaded once the tile is
+ * rendered, and is released again by {@link MapTextureCache} once it has not been rendered for a while.
+ *
+ * <p>Texture positions are in world blocks relative to the tile, regardless of the detail level of the image.
+ */
 public class MapTexture {
-    private final NativeImage texture;
+    private final File file;
     private final ResourceLocation mapResource;
-
-    private boolean registered = false;
+    private final MapTextureCache cache;
 
     private final int x1;
     private final int z1;
@@ -24,28 +37,89 @@ public class MapTexture {
     private final int textureWidth;
     private final int textureHeight;
 
-    public MapTexture(String name, NativeImage texture, int x1, int z1, int x2, int z2) {
-        this.texture = texture;
+    // Only accessed on the render thread
+    private DynamicTexture texture;
+    // Decoded, but not uploaded yet. Counted in the cache budget like an uploaded texture
+    private NativeImage loadedImage;
+    private boolean loading = false;
+    private boolean released = false;
+
+    MapTexture(File file, String name, MapTextureCache cache, int x1, int z1, int x2, int z2) {
+        this.file = file;
+        this.cache = cache;
         this.x1 = x1;
         this.z1 = z1;
         this.x2 = x2;
         this.z2 = z2;
-        this.textureWidth = texture.getWidth();
-        this.textureHeight = texture.getHeight();
+        this.textureWidth = x2 - x1 + 1;
+        this.textureHeight = z2 - z1 + 1;
 
         this.mapResource = new ResourceLocation("wynntils", "/maps/" + name);
-
-        assert (x2 - x1 + 1 == textureWidth);
-        assert (z2 - z1 + 1 == textureHeight);
     }
 
+    /** Returns the texture of this tile, or null if it is still being loaded */
     public ResourceLocation resource() {
-        if (!registered) {
-            registered = true;
-            McUtils.mc().getTextureManager().register(mapResource, new DynamicTexture(texture));
+        if (texture != null) {
+            cache.touch(this);
+            return mapResource;
+        }
+
+        if (loadedImage != null) {
+            texture = new DynamicTexture(loadedImage);
+            loadedImage = null;
+            McUtils.mc().getTextureManager().register(mapResource, texture);
+            cache.touch(this);
+            return mapResource;
+        }
+
+        if (!loading && !released) {
+            loading = true;
+            TaskUtils.runAsync(TaskLane.IO, this::load);
+        }
+
+        return null;
+    }
+
+    /** Frees the texture or the loaded image, until the tile is rendered again. Must be called on the render thread */
+    void release() {
+        if (texture != null) {
+            McUtils.mc().getTextureManager().release(mapResource);
+            texture = null;
+            loading = false;
+        }
+
+        if (loadedImage != null) {
+            loadedImage.close();
+            loadedImage = null;
+            loading = false;
+        }
+    }
+
+    /** Frees everything for good, as the tile is no longer part of the map. Must be called on the render thread */
+    void dispose() {
+        released = true;
+        release();
+    }
+
+    private void load() {
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            NativeImage image = NativeImage.read(NativeImage.Format.RGBA, inputStream);
+            // The tile may leave the view before it is uploaded, so the image is added to the cache budget right away
+            RenderSystem.recordRenderCall(() -> onImageLoaded(image));
+        } catch (IOException e) {
+            // Leave it marked as loading, so a broken tile is not read again every frame
+            WynntilsMod.warn("Failed to load map tile " + file, e);
+        }
+    }
+
+    private void onImageLoaded(NativeImage image) {
+        if (released) {
+            image.close();
+            return;
         }
 
-        return mapResource;
+        loadedImage = image;
+        cache.add(this, (long) image.getWidth() * image.getHeight() * 4);
     }
 
     public float getTextureXPosition(double posX) {
@@ -0,0 +1,60 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.model.map;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the loaded map tiles, both uploaded and waiting to be uploaded, and releases the least recently
+ * rendered ones once they take up more than the budget. Only accessed on the render thread.
+ */
+final class MapTextureCache {
+    // Several screens worth of tiles, at any detail level
+    private static final long MAX_LOADED_BYTES = 64L * 1024 * 1024;
+
+    // Loaded tiles in order of last use, with their size in bytes
+    private final Map<MapTexture, Long> loaded = new LinkedHashMap<>(64, 0.75f, true);
+    private long loadedBytes = 0;
+
+    void touch(MapTexture texture) {
+        loaded.get(texture);
+    }
+
+    void add(MapTexture texture, long bytes) {
+        loaded.put(texture, bytes);
+        loadedBytes += bytes;
+
+        Iterator<Map.Entry<MapTexture, Long>> iterator = loaded.entrySet().iterator();
+        while (loadedBytes > MAX_LOADED_BYTES && iterator.hasNext()) {
+            Map.Entry<MapTexture, Long> eldest = iterator.next();
+            // Never release the tile that was just loaded
+            if (eldest.getKey() == texture) break;
+
+            iterator.remove();
+            loadedBytes -= eldest.getValue();
+            eldest.getKey().release();
+        }
+    }
+
+    /** Disposes the given tiles, and forgets about them. Can be called from any thread */
+    void dispose(Collection<MapTexture> textures) {
+        List<MapTexture> disposed = List.copyOf(textures);
+        RenderSystem.recordRenderCall(() -> {
+            for (MapTexture texture : disposed) {
+                Long bytes = loaded.remove(texture);
+                if (bytes != null) {
+                    loadedBytes -= bytes;
+                }
+
+                texture.dispose();
+            }
+        });
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.model.map;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import com.wynntils.utils.BoundingBox;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A square area of a map part, with a texture for each detail level. Detail level {@code n} is the full resolution
+ * image scaled down by {@code 2^n}, so zoomed out maps only need small textures.
+ */
+final class MapTile {
+    static final int TILE_SIZE = 512;
+    static final int DETAIL_LEVELS = 4;
+
+    // Written last, so a part that was only partially tiled is tiled again
+    private static final String COMPLETE_MARKER = "complete";
+
+    private final BoundingBox box;
+    private final List<MapTexture> textures;
+
+    private MapTile(BoundingBox box, List<MapTexture> textures) {
+        this.box = box;
+        this.textures = textures;
+    }
+
+    BoundingBox getBox() {
+        return box;
+    }
+
+    MapTexture getTexture(int detailLevel) {
+        return textures.get(detailLevel);
+    }
+
+    List<MapTexture> getTextures() {
+        return textures;
+    }
+
+    /** Returns whether the tile images of a map part were already written to the given directory */
+    static boolean hasTileImages(File tileDir) {
+        return new File(tileDir, COMPLETE_MARKER).exists();
+    }
+
+    /** Splits the image of a map part into tiles, and writes them to the given directory at every detail level */
+    static void writeTileImages(NativeImage partImage, File tileDir) throws IOException {
+        if (!tileDir.isDirectory() && !tileDir.mkdirs()) {
+            throw new IOException("Could not create " + tileDir);
+        }
+
+        for (int tileX = 0; tileX * TILE_SIZE < partImage.getWidth(); tileX++) {
+            for (int tileZ = 0; tileZ * TILE_SIZE < partImage.getHeight(); tileZ++) {
+                int width = Math.min(TILE_SIZE, partImage.getWidth() - tileX * TILE_SIZE);
+                int height = Math.min(TILE_SIZE, partImage.getHeight() - tileZ * TILE_SIZE);
+
+                NativeImage image = new NativeImage(NativeImage.Format.RGBA, width, height, false);
+                try {
+                    partImage.copyRect(image, tileX * TILE_SIZE, tileZ * TILE_SIZE, 0, 0, width, height, false, false);
+
+                    for (int level = 0; level < DETAIL_LEVELS; level++) {
+                        if (level > 0) {
+                            NativeImage smaller = downscale(image);
+                            image.close();
+                            image = smaller;
+                        }
+
+                        image.writeToFile(getTileFile(tileDir, tileX, tileZ, level));
+                    }
+                } finally {
+                    image.close();
+                }
+            }
+        }
+
+        if (!new File(tileDir, COMPLETE_MARKER).createNewFile()) {
+            throw new IOException("Could not mark " + tileDir + " as complete");
+        }
+    }
+
+    /** Creates the tiles covering a map part, which must have its tile images written already */
+    static List<MapTile> createTiles(
+            String name, File tileDir, MapTextureCache cache, int x1, int z1, int x2, int z2) {
+        List<MapTile> tiles = new ArrayList<>();
+
+        for (int tileX = 0; x1 + tileX * TILE_SIZE <= x2; tileX++) {
+            for (int tileZ = 0; z1 + tileZ * TILE_SIZE <= z2; tileZ++) {
+                int tileX1 = x1 + tileX * TILE_SIZE;
+                int tileZ1 = z1 + tileZ * TILE_SIZE;
+                int tileX2 = Math.min(x2, tileX1 + TILE_SIZE - 1);
+                int tileZ2 = Math.min(z2, tileZ1 + TILE_SIZE - 1);
+
+                List<MapTexture> textures = new ArrayList<>(DETAIL_LEVELS);
+                for (int level = 0; level < DETAIL_LEVELS; level++) {
+                    textures.add(new MapTexture(
+                            getTileFile(tileDir, tileX, tileZ, level),
+                            name + "/" + tileX + "_" + tileZ + "_" + level,
+                            cache,
+                            tileX1,
+                            tileZ1,
+                            tileX2,
+                            tileZ2));
+                }
+
+                tiles.add(new MapTile(new BoundingBox(tileX1, tileZ1, tileX2, tileZ2), List.copyOf(textures)));
+            }
+        }
+
+        return tiles;
+    }
+
+    private static File getTileFile(File tileDir, int tileX, int tileZ, int level) {
+        return new File(tileDir, tileX + "_" + tileZ + "_" + level + ".png");
+    }
+
+    /** Halves the size of an image, averaging each 2x2 block of pixels. Fully transparent pixels don't add color */
+    private static NativeImage downscale(NativeImage image) {
+        int width = Math.max(1, (image.getWidth() + 1) / 2);
+        int height = Math.max(1, (image.getHeight() + 1) / 2);
+        NativeImage smaller = new NativeImage(NativeImage.Format.RGBA, width, height, false);
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                // Channels are summed separately, the byte order doesn't matter
+                int alphaSum = 0;
+                int sum0 = 0;
+                int sum1 = 0;
+                int sum2 = 0;
+                int opaqueSamples = 0;
+
+                for (int dx = 0; dx < 2; dx++) {
+                    for (int dy = 0; dy < 2; dy++) {
+                        int sourceX = Math.min(image.getWidth() - 1, x * 2 + dx);
+                        int sourceY = Math.min(image.getHeight() - 1, y * 2 + dy);
+                        int sample = image.getPixelRGBA(sourceX, sourceY);
+
+                        int alpha = (sample >>> 24) & 0xFF;
+                        alphaSum += alpha;
+                        if (alpha == 0) continue;
+
+                        opaqueSamples++;
+                        sum0 += sample & 0xFF;
+                        sum1 += (sample >>> 8) & 0xFF;
+                        sum2 += (sample >>> 16) & 0xFF;
+                    }
+                }
+
+                int pixel = 0;
+                if (opaqueSamples > 0) {
+                    pixel = (alphaSum / 4) << 24
+                            | (sum2 / opaqueSamples) << 16
+                            | (sum1 / opaqueSamples) << 8
+                            | (sum0 / opaqueSamples);
+                }
+                smaller.setPixelRGBA(x, y, pixel);
+            }
+        }
+
+        return smaller;
+    }
+}
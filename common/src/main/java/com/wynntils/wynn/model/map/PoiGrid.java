@@ -0,0 +1,70 @@
+/*
+ * Copyright © Wynntils 2022.
+ * This file is released under AGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.wynn.model.map;
+
+import com.wynntils.utils.BoundingBox;
+import com.wynntils.wynn.model.map.poi.Poi;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An immutable uniform grid over POIs with a static location, bucketed by the cell of their location.
+ */
+public final class PoiGrid {
+    private static final int CELL_SHIFT = 7; // 128 blocks per cell
+
+    private final Long2ObjectMap<List<Poi>> cells = new Long2ObjectOpenHashMap<>();
+
+    public PoiGrid(Collection<? extends Poi> pois) {
+        for (Poi poi : pois) {
+            long cell = getCell(poi.getLocation().getX() >> CELL_SHIFT, poi.getLocation().getZ() >> CELL_SHIFT);
+            cells.computeIfAbsent(cell, k -> new ArrayList<>()).add(poi);
+        }
+    }
+
+    /**
+     * Adds every POI whose location lies within the box and that passes the filter to the result.
+     */
+    public void query(BoundingBox box, Predicate<Poi> filter, List<Poi> result) {
+        int minCellX = (int) Math.floor(box.x1) >> CELL_SHIFT;
+        int minCellZ = (int) Math.floor(box.z1) >> CELL_SHIFT;
+        int maxCellX = (int) Math.floor(box.x2) >> CELL_SHIFT;
+        int maxCellZ = (int) Math.floor(box.z2) >> CELL_SHIFT;
+
+        long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1);
+        if (cellCount > cells.size()) {
+            // The box covers more cells than are populated, so visiting the populated ones is cheaper
+            for (List<Poi> pois : cells.values()) {
+                addMatching(pois, box, filter, result);
+            }
+            return;
+        }
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                List<Poi> pois = cells.get(getCell(cellX, cellZ));
+                if (pois != null) {
+                    addMatching(pois, box, filter, result);
+                }
+            }
+        }
+    }
+
+    private static void addMatching(List<Poi> pois, BoundingBox box, Predicate<Poi> filter, List<Poi> result) {
+        for (Poi poi : pois) {
+            if (box.contains(poi.getLocation().getX(), poi.getLocation().getZ()) && filter.test(poi)) {
+                result.add(poi);
+            }
+        }
+    }
+
+    private static long getCell(int cellX, int cellZ) {
+        return (long) cellX & 0xffffffffL | ((long) cellZ & 0xffffffffL) << 32;
+    }
+}
@@ -64,6 +64,11 @@ public class CustomPoi extends StaticIconPoi {
         return DisplayPriority.LOW;
     }
 
+    @Override
+    protected CustomColor getIconColor() {
+        return color;
+    }
+
     @Override
     public void renderAt(
             PoseStack poseStack, float renderX, float renderZ, boolean hovered, float scale, float mapZoom) {
@@ -10,11 +10,14 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.features.user.map.MapFeature;
 import com.wynntils.gui.render.FontRenderer;
 import com.wynntils.gui.render.HorizontalAlignment;
+import com.wynntils.gui.render.RenderBatch;
 import com.wynntils.gui.render.RenderUtils;
 import com.wynntils.gui.render.Texture;
 import com.wynntils.gui.render.VerticalAlignment;
 import com.wynntils.mc.objects.CommonColors;
+import com.wynntils.mc.objects.CustomColor;
 import com.wynntils.utils.MathUtils;
+import net.minecraft.util.Mth;
 
 public abstract class IconPoi implements Poi {
     @Override
@@ -40,6 +43,39 @@ public abstract class IconPoi implements Poi {
                 zoom, getMinZoomForRender() - MapFeature.INSTANCE.poiFadeDistance, getMinZoomForRender(), 0f, 1f);
     }
 
+    // The color the icon is tinted with, only used when rendering in a batch
+    protected CustomColor getIconColor() {
+        return CommonColors.WHITE;
+    }
+
+    /**
+     * Adds the icon to the batch, instead of drawing it right away. This looks the same as {@link #renderAt} for a
+     * poi that is not hovered, but icons sharing a texture can be drawn together.
+     */
+    public void renderAt(
+            RenderBatch batch, PoseStack poseStack, float renderX, float renderZ, float scale, float mapZoom) {
+        Texture icon = getIcon();
+
+        float width = icon.width() * scale;
+        float height = icon.height() * scale;
+
+        batch.drawTexturedRectWithColor(
+                poseStack,
+                icon.resource(),
+                getIconColor().withAlpha(Mth.clamp(getIconAlpha(mapZoom), 0f, 1f)),
+                renderX - width / 2,
+                renderZ - height / 2,
+                0,
+                width,
+                height,
+                0,
+                0,
+                icon.width(),
+                icon.height(),
+                icon.width(),
+                icon.height());
+    }
+
     @Override
     public void renderAt(
             PoseStack poseStack, float renderX, float renderZ, boolean hovered, float scale, float mapZoom) {
@@ -13,10 +13,14 @@ public class IngredientIdentificationContainer {
     boolean isFixed;
 
     public IngredientIdentificationContainer(IdentificationModifier type, int minimum, int maximum) {
+        this(type, minimum, maximum, minimum == maximum);
+    }
+
+    public IngredientIdentificationContainer(IdentificationModifier type, int minimum, int maximum, boolean isFixed) {
         this.type = type;
         this.minimum = minimum;
         this.maximum = maximum;
-        this.isFixed = minimum == maximum;
+        this.isFixed = isFixed;
     }
 
     public int getMax() {
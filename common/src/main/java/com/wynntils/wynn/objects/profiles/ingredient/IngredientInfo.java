@@ -24,6 +24,14 @@ public final class IngredientInfo {
         this.metadata = metadata;
     }
 
+    public String getMaterialName() {
+        return materialName;
+    }
+
+    public String getMetadata() {
+        return metadata;
+    }
+
     public ItemStack asItemStack() {
         if (materialName == null) {
             return new ItemStack(Items.AIR);
@@ -21,6 +21,25 @@ public class IngredientItemModifiers {
     int defense = 0;
     int agility = 0;
 
+    public IngredientItemModifiers(
+            int durability,
+            int duration,
+            int charges,
+            int strength,
+            int dexterity,
+            int intelligence,
+            int defense,
+            int agility) {
+        this.durability = durability;
+        this.duration = duration;
+        this.charges = charges;
+        this.strength = strength;
+        this.dexterity = dexterity;
+        this.intelligence = intelligence;
+        this.defense = defense;
+        this.agility = agility;
+    }
+
     public int getAgility() {
         return agility;
     }
@@ -19,6 +19,15 @@ public class IngredientModifiers {
     int touching = 0;
     int notTouching = 0;
 
+    public IngredientModifiers(int left, int right, int above, int under, int touching, int notTouching) {
+        this.left = left;
+        this.right = right;
+        this.above = above;
+        this.under = under;
+        this.touching = touching;
+        this.notTouching = notTouching;
+    }
+
     public int getLeft() {
         return left;
     }
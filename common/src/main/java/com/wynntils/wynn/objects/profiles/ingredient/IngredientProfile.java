@@ -41,7 +41,8 @@ public class IngredientProfile {
             List<ProfessionType> professions,
             Map<String, IngredientIdentificationContainer> statuses,
             IngredientItemModifiers itemModifiers,
-            IngredientModifiers ingredientModifiers) {
+            IngredientModifiers ingredientModifiers,
+            IngredientInfo ingredientInfo) {
         this.name = name;
         this.ingredientTier = ingredientTier;
         this.untradeable = untradeable;
@@ -51,6 +52,7 @@ public class IngredientProfile {
         this.statuses = statuses;
         this.itemModifiers = itemModifiers;
         this.ingredientModifiers = ingredientModifiers;
+        this.ingredientInfo = ingredientInfo;
     }
 
     public String getDisplayName() {
@@ -85,6 +87,14 @@ public class IngredientProfile {
         return untradeable;
     }
 
+    public String getMaterial() {
+        return material;
+    }
+
+    public IngredientInfo getIngredientInfo() {
+        return ingredientInfo;
+    }
+
     public ItemStack asItemStack() {
         ItemStack itemStack = ingredientInfo.asItemStack();
 
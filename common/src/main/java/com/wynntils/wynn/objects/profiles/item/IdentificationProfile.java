@@ -31,8 +31,19 @@ public class IdentificationProfile {
         this.isFixed = isFixed;
     }
 
-    public void calculateMinMax(String shortId) {
-        isInverted = IdentificationOrderer.INSTANCE.isInverted(shortId);
+    /** Creates a profile whose min and max are already calculated */
+    public IdentificationProfile(
+            IdentificationModifier type, int baseValue, boolean isFixed, boolean isInverted, int min, int max) {
+        this.type = type;
+        this.baseValue = baseValue;
+        this.isFixed = isFixed;
+        this.isInverted = isInverted;
+        this.min = min;
+        this.max = max;
+    }
+
+    public void calculateMinMax(String shortId, IdentificationOrderer orderer) {
+        isInverted = orderer.isInverted(shortId);
 
         if (isFixed || (-1 <= baseValue && baseValue <= 1)) {
             min = baseValue;
@@ -54,6 +54,14 @@ public class ItemInfoContainer {
         return set;
     }
 
+    public String getMaterialName() {
+        return materialName;
+    }
+
+    public String getMetadata() {
+        return metadata;
+    }
+
     public boolean isArmorColorValid() {
         return armorColor != null && COLOR_PATTERN.matcher(armorColor).find();
     }
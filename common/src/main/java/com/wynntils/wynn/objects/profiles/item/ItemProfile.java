@@ -46,6 +46,7 @@ public class ItemProfile {
             String displayName,
             ItemTier tier,
             boolean identified,
+            int powderAmount,
             ItemAttackSpeed attackSpeed,
             ItemInfoContainer itemInfo,
             Map<String, String> requirements,
@@ -58,6 +59,7 @@ public class ItemProfile {
         this.displayName = displayName;
         this.tier = tier;
         this.identified = identified;
+        this.powderAmount = powderAmount;
         this.attackSpeed = attackSpeed;
         this.itemInfo = itemInfo;
         this.requirements = requirements;
@@ -112,6 +114,11 @@ public class ItemProfile {
         }
     }
 
+    /** The requirements as they are stored in the item database, see {@link #getRequirements()} */
+    public Map<String, String> getRawRequirements() {
+        return requirements;
+    }
+
     public Map<RequirementType, String> getRequirements() {
         parseRequirements();
         return parsedRequirements;
@@ -182,6 +189,10 @@ public class ItemProfile {
         return statuses;
     }
 
+    public List<String> getMajorIdNames() {
+        return majorIds;
+    }
+
     public List<MajorIdentification> getMajorIds() {
         return majorIdentifications;
     }